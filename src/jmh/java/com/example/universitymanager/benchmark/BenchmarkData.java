@@ -0,0 +1,51 @@
+package com.example.universitymanager.benchmark;
+
+import com.example.universitymanager.domain.course.Course;
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.student.Student;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Lecturer lecturer(long id) {
+        return Lecturer.builder()
+                .id(id)
+                .firstName("Adam")
+                .lastName("Nowak")
+                .title("PhD")
+                .email("adam.nowak" + id + "@example.com")
+                .build();
+    }
+
+    static Student student(long id) {
+        return Student.builder()
+                .id(id)
+                .firstName("John" + id)
+                .lastName("Kowalski" + id)
+                .indexCode(String.valueOf(100000 + id))
+                .studiesStartYear(2015 + (int) (id % 8))
+                .build();
+    }
+
+    static List<Student> students(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(BenchmarkData::student)
+                .collect(Collectors.toList());
+    }
+
+    static Course course(int rosterSize) {
+        Course course = Course.builder()
+                .id(1L)
+                .courseName("Linear Algebra")
+                .leadingLecturer(lecturer(1L))
+                .build();
+        students(rosterSize).forEach(course::addStudent);
+        return course;
+    }
+}
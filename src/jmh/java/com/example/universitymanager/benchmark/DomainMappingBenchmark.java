@@ -0,0 +1,56 @@
+package com.example.universitymanager.benchmark;
+
+import com.example.universitymanager.domain.course.Course;
+import com.example.universitymanager.domain.course.CourseDto;
+import com.example.universitymanager.domain.lecturer.LecturerDto;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DomainMappingBenchmark {
+
+    @Param({"0", "10", "100", "1000"})
+    private int rosterSize;
+
+    private Course course;
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        course = BenchmarkData.course(rosterSize);
+        student = BenchmarkData.student(1L);
+    }
+
+    @Benchmark
+    public CourseDto courseToDto() {
+        return course.toDto();
+    }
+
+    @Benchmark
+    public StudentDto studentToDto() {
+        return student.toDto();
+    }
+
+    @Benchmark
+    public LecturerDto lecturerDtoBuilder() {
+        return LecturerDto.builder()
+                .id(1L)
+                .firstName("Adam")
+                .lastName("Nowak")
+                .title("PhD")
+                .email("adam.nowak@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.universitymanager.benchmark;
+
+import com.example.universitymanager.domain.common.ExceptionControllerAdvice;
+import com.example.universitymanager.domain.common.ExceptionResponse;
+import com.example.universitymanager.domain.common.exceptions.EntityNotFoundException;
+import com.example.universitymanager.domain.student.controller.request.CreateStudentRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExceptionResponseBenchmark {
+
+    private final ExceptionControllerAdvice exceptionControllerAdvice = new ExceptionControllerAdvice();
+    private MockHttpServletRequest request;
+    private EntityNotFoundException entityNotFoundException;
+    private IllegalArgumentException illegalArgumentException;
+    private MethodArgumentNotValidException methodArgumentNotValidException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        request = new MockHttpServletRequest("POST", "/api/v1/students");
+        entityNotFoundException = new EntityNotFoundException("Student with id 1 not found");
+        illegalArgumentException = new IllegalArgumentException("Students cannot be sorted by name");
+
+        BeanPropertyBindingResult bindingResult =
+                new BeanPropertyBindingResult(CreateStudentRequest.builder().build(), "createStudentRequest");
+        bindingResult.addError(new FieldError("createStudentRequest", "firstName", "First name cannot be empty"));
+        bindingResult.addError(new FieldError("createStudentRequest", "lastName", "Last name cannot be empty"));
+        bindingResult.addError(new FieldError("createStudentRequest", "indexCode", "Index code cannot be empty"));
+        MethodParameter parameter = new MethodParameter(
+                ExceptionResponseBenchmark.class.getDeclaredMethod("validated", CreateStudentRequest.class), 0);
+        methodArgumentNotValidException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ExceptionResponse> entityNotFound() {
+        return exceptionControllerAdvice.handle(entityNotFoundException, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ExceptionResponse> illegalArgument() {
+        return exceptionControllerAdvice.handle(illegalArgumentException, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ExceptionResponse> validationFailed() {
+        return exceptionControllerAdvice.handle(methodArgumentNotValidException, request);
+    }
+
+    @SuppressWarnings("unused")
+    private void validated(CreateStudentRequest createStudentRequest) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.universitymanager.benchmark;
+
+import com.example.universitymanager.UniversityManagerApplication;
+import com.example.universitymanager.domain.common.exceptions.CourseFullException;
+import com.example.universitymanager.domain.course.Course;
+import com.example.universitymanager.domain.course.CourseRepository;
+import com.example.universitymanager.domain.course.CourseService;
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerRepository;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enrollment throughput on a single popular course, with every thread contending for the same course row.
+ * Runs the application against the in-memory H2 database, so absolute numbers are an upper bound for
+ * PostgreSQL; compare them between changes rather than reading them as production capacity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class HotCourseEnrollmentBenchmark {
+
+    private static final int STUDENTS = 64;
+
+    private ConfigurableApplicationContext context;
+    private CourseService courseService;
+    private Long hotCourseId;
+    private Long fullCourseId;
+    private final List<Long> studentIds = new ArrayList<>();
+    private final AtomicInteger nextStudent = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(UniversityManagerApplication.class)
+                .profiles("h2")
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN", "spring.jpa.show-sql=false", "app.synthetic-data.enabled=false")
+                .run();
+        courseService = context.getBean(CourseService.class);
+        StudentRepository studentRepository = context.getBean(StudentRepository.class);
+        LecturerRepository lecturerRepository = context.getBean(LecturerRepository.class);
+        CourseRepository courseRepository = context.getBean(CourseRepository.class);
+
+        for (int index = 0; index < STUDENTS; index++) {
+            studentIds.add(studentRepository.save(Student.builder()
+                    .firstName("John" + index)
+                    .lastName("Doe")
+                    .indexCode(String.valueOf(100000 + index))
+                    .studiesStartYear(2023)
+                    .build()).getId());
+        }
+        Lecturer hotLecturer = lecturerRepository.save(Lecturer.builder()
+                .firstName("Adam").lastName("Nowak").title("PhD").email("adam.nowak@example.com").build());
+        Lecturer fullLecturer = lecturerRepository.save(Lecturer.builder()
+                .firstName("Anna").lastName("Kowalska").title("PhD").email("anna.kowalska@example.com").build());
+        hotCourseId = courseRepository.save(Course.builder()
+                .courseName("Popular course")
+                .leadingLecturer(hotLecturer)
+                .capacity(STUDENTS)
+                .build()).getId();
+        fullCourseId = courseRepository.save(Course.builder()
+                .courseName("Full course")
+                .leadingLecturer(fullLecturer)
+                .capacity(1)
+                .build()).getId();
+        courseService.enrollStudent(fullCourseId, studentIds.get(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Applicant {
+
+        private Long studentId;
+
+        @Setup(Level.Trial)
+        public void setUp(HotCourseEnrollmentBenchmark benchmark) {
+            studentId = benchmark.studentIds.get(benchmark.nextStudent.getAndIncrement() % STUDENTS);
+        }
+    }
+
+    /**
+     * Enrolls and unenrolls in each invocation, so the roster never fills up during the run. Counted as two
+     * operations: the score is enrollment changes per second, each a transaction of its own.
+     */
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public void enrollAndUnenrollOnHotCourse(Applicant applicant) {
+        courseService.enrollStudent(hotCourseId, applicant.studentId);
+        courseService.unenrollStudent(hotCourseId, applicant.studentId);
+    }
+
+    @Benchmark
+    public boolean enrollIntoFullCourse(Applicant applicant) {
+        try {
+            courseService.enrollStudent(fullCourseId, applicant.studentId);
+            return true;
+        } catch (CourseFullException exception) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.universitymanager.benchmark;
+
+import com.example.universitymanager.domain.course.CourseDto;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private CourseDto courseDto;
+    private List<StudentDto> studentDtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        courseDto = BenchmarkData.course(size).toDto();
+        studentDtos = BenchmarkData.students(size).stream()
+                .map(Student::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeCourseDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(courseDto);
+    }
+
+    @Benchmark
+    public byte[] serializeStudentDtoList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(studentDtos);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.universitymanager.benchmark;
+
+import com.example.universitymanager.domain.search.SearchDocument;
+import com.example.universitymanager.domain.search.SearchHitDto;
+import com.example.universitymanager.domain.search.TrigramIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name search over an index of a million people. A rare query matches a handful of postings, a common one
+ * the postings of a large share of the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrigramSearchBenchmark {
+
+    private static final int LIMIT = 20;
+    private static final double MIN_SCORE = 0.3;
+
+    @Param("1000000")
+    private int people;
+
+    @Param({"Kowalski123456", "Kowalski"})
+    private String query;
+
+    private TrigramIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new TrigramIndex();
+        for (long id = 1; id <= people; id++) {
+            index.put(SearchDocument.of(BenchmarkData.student(id).toDto()));
+        }
+    }
+
+    @Benchmark
+    public List<SearchHitDto> search() {
+        return index.search(query, LIMIT, MIN_SCORE);
+    }
+}
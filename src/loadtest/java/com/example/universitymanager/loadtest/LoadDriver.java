@@ -0,0 +1,256 @@
+package com.example.universitymanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Closed-loop load driver for a running instance, usually started with the {@code loadtest} profile so the
+ * database is seeded with synthetic data. Each worker picks a read or write operation according to the
+ * configured ratio, and latencies are recorded per endpoint after the warmup.
+ */
+public final class LoadDriver {
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String[] NAME_PREFIXES = {"No", "Ko", "Wi", "Sm", "Jo", "Br", "Ta", "Da"};
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointStats> statsByEndpoint = new LinkedHashMap<>();
+    private final List<Operation> reads = new ArrayList<>();
+    private final List<Operation> writes = new ArrayList<>();
+    private long[] studentIds;
+    private long[] lecturerIds;
+    private long[] courseIds;
+
+    private LoadDriver(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(LoadTestConfig.fromSystemProperties()).run();
+    }
+
+    private void run() throws Exception {
+        studentIds = discoverIds("/students");
+        lecturerIds = discoverIds("/lecturers");
+        courseIds = discoverIds("/courses");
+        if (studentIds.length == 0 || lecturerIds.length == 0 || courseIds.length == 0) {
+            throw new IllegalStateException("No students, lecturers or courses found at " + config.baseUrl
+                    + ". Start the application with the loadtest profile to seed synthetic data.");
+        }
+        registerOperations();
+
+        long warmupEnd = System.nanoTime() + config.warmup.toNanos();
+        long end = warmupEnd + config.duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency);
+        for (int worker = 0; worker < config.concurrency; worker++) {
+            workers.submit(() -> work(end));
+        }
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        statsByEndpoint.values().forEach(EndpointStats::reset);
+        workers.shutdown();
+        workers.awaitTermination(config.duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+
+        report();
+    }
+
+    private void registerOperations() {
+        read("GET /students", random -> get("/students?size=50"));
+        read("GET /students/{id}", random -> get("/students/" + pick(random, studentIds)));
+        read("GET /students/search", random -> get("/students/search?lastName="
+                + URLEncoder.encode(NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)], StandardCharsets.UTF_8)));
+        read("GET /lecturers", random -> get("/lecturers?size=50"));
+        read("GET /lecturers/{id}", random -> get("/lecturers/" + pick(random, lecturerIds)));
+        read("GET /courses", random -> get("/courses?size=20"));
+        read("GET /courses/{id}", random -> get("/courses/" + pick(random, courseIds)));
+
+        write("POST /students", random -> send("POST", "/students", studentBody(null, random)));
+        write("PUT /students", random -> {
+            long studentId = pick(random, studentIds);
+            return send("PUT", "/students", studentBody(studentId, random), currentETag("/students/" + studentId));
+        });
+        write("POST /lecturers", random -> send("POST", "/lecturers", lecturerBody(null, random)));
+        write("PUT /lecturers", random -> {
+            long lecturerId = pick(random, lecturerIds);
+            return send("PUT", "/lecturers", lecturerBody(lecturerId, random), currentETag("/lecturers/" + lecturerId));
+        });
+        write("POST /courses/{id}/students/{studentId}", random -> send("POST",
+                "/courses/" + pick(random, courseIds) + "/students/" + pick(random, studentIds), null));
+        write("DELETE /courses/{id}/students/{studentId}", random -> send("DELETE",
+                "/courses/" + pick(random, courseIds) + "/students/" + pick(random, studentIds), null));
+    }
+
+    private void work(long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < end) {
+            List<Operation> operations = writes.isEmpty() || random.nextDouble() < config.readRatio ? reads : writes;
+            Operation operation = operations.get(random.nextInt(operations.size()));
+            HttpRequest request = operation.requestFactory.apply(random);
+            long start = System.nanoTime();
+            int statusCode;
+            try {
+                statusCode = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException exception) {
+                statusCode = -1;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            operation.stats.record(statusCode, System.nanoTime() - start);
+        }
+    }
+
+    private long[] discoverIds(String path) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            String query = "?size=500" + (cursor == null ? "" : "&cursor=" + cursor);
+            HttpResponse<String> response = httpClient.send(get(path + query), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+            }
+            for (JsonNode item : objectMapper.readTree(response.body())) {
+                ids.add(item.get("id").asLong());
+            }
+            cursor = response.headers().firstValue(NEXT_CURSOR_HEADER).orElse(null);
+        } while (cursor != null && ids.size() < config.maxDiscoveredIds);
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void report() throws IOException {
+        double seconds = config.duration.toMillis() / 1000.0;
+        ArrayNode results = objectMapper.createArrayNode();
+        System.out.printf("%-45s %10s %10s %9s %9s %9s %8s %8s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "4xx", "5xx");
+        statsByEndpoint.forEach((endpoint, stats) -> {
+            System.out.printf("%-45s %10d %10.1f %9.2f %9.2f %9.2f %8d %8d%n",
+                    endpoint, stats.count(), stats.count() / seconds, stats.percentileMillis(50),
+                    stats.percentileMillis(99), stats.percentileMillis(99.9), stats.clientErrors(), stats.serverErrors());
+            ObjectNode result = results.addObject();
+            result.put("endpoint", endpoint);
+            result.put("requests", stats.count());
+            result.put("throughput", stats.count() / seconds);
+            result.put("p50Millis", stats.percentileMillis(50));
+            result.put("p99Millis", stats.percentileMillis(99));
+            result.put("p999Millis", stats.percentileMillis(99.9));
+            result.put("clientErrors", stats.clientErrors());
+            result.put("serverErrors", stats.serverErrors());
+        });
+        Path resultsFile = Path.of(config.resultsFile);
+        if (resultsFile.getParent() != null) {
+            Files.createDirectories(resultsFile.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(resultsFile.toFile(), results);
+        System.out.println("Results written to " + resultsFile.toAbsolutePath());
+    }
+
+    private void read(String endpoint, Function<ThreadLocalRandom, HttpRequest> requestFactory) {
+        reads.add(new Operation(stats(endpoint), requestFactory));
+    }
+
+    private void write(String endpoint, Function<ThreadLocalRandom, HttpRequest> requestFactory) {
+        if (config.readRatio < 1) {
+            writes.add(new Operation(stats(endpoint), requestFactory));
+        }
+    }
+
+    private EndpointStats stats(String endpoint) {
+        return statsByEndpoint.computeIfAbsent(endpoint, key -> new EndpointStats());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, String jsonBody) {
+        return send(method, path, jsonBody, null);
+    }
+
+    private HttpRequest send(String method, String path, String jsonBody, String ifMatch) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(config.baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, jsonBody == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(jsonBody));
+        if (ifMatch != null) {
+            requestBuilder.header("If-Match", ifMatch);
+        }
+        return requestBuilder.build();
+    }
+
+    /**
+     * Fetches the ETag a client holds before a conditional update. Runs while the request is being built, so it
+     * is not part of the recorded latency.
+     */
+    private String currentETag(String path) {
+        try {
+            return httpClient.send(get(path), HttpResponse.BodyHandlers.discarding()).headers().firstValue("ETag").orElse(null);
+        } catch (IOException exception) {
+            return null;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private String studentBody(Long id, ThreadLocalRandom random) {
+        ObjectNode body = objectMapper.createObjectNode();
+        if (id != null) {
+            body.put("id", id);
+        }
+        body.put("firstName", "Load");
+        body.put("lastName", NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)] + "test");
+        body.put("indexCode", String.valueOf(900000 + random.nextInt(100000)));
+        body.put("studiesStartYear", 2015 + random.nextInt(9));
+        return body.toString();
+    }
+
+    private String lecturerBody(Long id, ThreadLocalRandom random) {
+        ObjectNode body = objectMapper.createObjectNode();
+        if (id != null) {
+            body.put("id", id);
+        }
+        body.put("firstName", "Load");
+        body.put("lastName", NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)] + "test");
+        body.put("title", "PhD");
+        body.put("email", "load" + random.nextInt(1_000_000) + "@example.com");
+        return body.toString();
+    }
+
+    private static long pick(ThreadLocalRandom random, long[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static final class Operation {
+
+        private final EndpointStats stats;
+        private final Function<ThreadLocalRandom, HttpRequest> requestFactory;
+
+        private Operation(EndpointStats stats, Function<ThreadLocalRandom, HttpRequest> requestFactory) {
+            this.stats = stats;
+            this.requestFactory = requestFactory;
+        }
+    }
+}
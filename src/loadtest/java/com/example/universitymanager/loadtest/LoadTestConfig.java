@@ -0,0 +1,40 @@
+package com.example.universitymanager.loadtest;
+
+import java.time.Duration;
+
+final class LoadTestConfig {
+
+    final String baseUrl;
+    final int concurrency;
+    final Duration warmup;
+    final Duration duration;
+    final double readRatio;
+    final int maxDiscoveredIds;
+    final String resultsFile;
+
+    private LoadTestConfig(String baseUrl, int concurrency, Duration warmup, Duration duration,
+                           double readRatio, int maxDiscoveredIds, String resultsFile) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.readRatio = readRatio;
+        this.maxDiscoveredIds = maxDiscoveredIds;
+        this.resultsFile = resultsFile;
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        double readRatio = Double.parseDouble(System.getProperty("loadtest.readRatio", "0.9"));
+        if (readRatio < 0 || readRatio > 1) {
+            throw new IllegalArgumentException("loadtest.readRatio should be between 0 and 1");
+        }
+        return new LoadTestConfig(
+                System.getProperty("loadtest.baseUrl", "http://localhost:8080/api/v1"),
+                Integer.parseInt(System.getProperty("loadtest.concurrency", "32")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT30S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT2M")),
+                readRatio,
+                Integer.parseInt(System.getProperty("loadtest.maxDiscoveredIds", "5000")),
+                System.getProperty("loadtest.resultsFile", "build/reports/loadtest/results.json"));
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.universitymanager.domain.common;
 
 import com.example.universitymanager.domain.common.exceptions.BaseException;
+import com.example.universitymanager.domain.common.jfr.HandledExceptionEvent;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -22,7 +24,7 @@ public class ExceptionControllerAdvice {
                 .message(exception.getMessage())
                 .request(request)
                 .build();
-        return createExceptionResponseResponseEntity(exceptionResponse);
+        return createExceptionResponseResponseEntity(exception, exceptionResponse);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -32,7 +34,7 @@ public class ExceptionControllerAdvice {
                 .message(exception.getMessage())
                 .request(request)
                 .build();
-        return createExceptionResponseResponseEntity(exceptionResponse);
+        return createExceptionResponseResponseEntity(exception, exceptionResponse);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -45,7 +47,7 @@ public class ExceptionControllerAdvice {
                 .message(fieldErrors.toString())
                 .request(request)
                 .build();
-        return createExceptionResponseResponseEntity(exceptionResponse);
+        return createExceptionResponseResponseEntity(exception, exceptionResponse);
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
@@ -56,7 +58,17 @@ public class ExceptionControllerAdvice {
                 .request(request)
                 .build();
         exception.printStackTrace();
-        return createExceptionResponseResponseEntity(exceptionResponse);
+        return createExceptionResponseResponseEntity(exception, exceptionResponse);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionResponse> handle(OptimisticLockingFailureException exception, HttpServletRequest request) {
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .httpStatus(HttpStatus.CONFLICT)
+                .message("Entity was modified concurrently. Request rejected")
+                .request(request)
+                .build();
+        return createExceptionResponseResponseEntity(exception, exceptionResponse);
     }
 
     @ExceptionHandler(Exception.class)
@@ -69,10 +81,20 @@ public class ExceptionControllerAdvice {
 
         exception.printStackTrace();
 
-        return createExceptionResponseResponseEntity(exceptionResponse);
+        return createExceptionResponseResponseEntity(exception, exceptionResponse);
     }
 
-    private ResponseEntity<ExceptionResponse> createExceptionResponseResponseEntity(ExceptionResponse exceptionResponse) {
+    private ResponseEntity<ExceptionResponse> createExceptionResponseResponseEntity(Exception exception,
+                                                                                   ExceptionResponse exceptionResponse) {
+        HandledExceptionEvent handledExceptionEvent = new HandledExceptionEvent();
+        if (handledExceptionEvent.shouldCommit()) {
+            handledExceptionEvent.exception = exception.getClass().getName();
+            handledExceptionEvent.message = exceptionResponse.getMessage();
+            handledExceptionEvent.httpStatus = exceptionResponse.getHttpStatusCode();
+            handledExceptionEvent.method = exceptionResponse.getMethod();
+            handledExceptionEvent.requestUri = exceptionResponse.getRequestUri();
+            handledExceptionEvent.commit();
+        }
         return ResponseEntity.status(exceptionResponse.getHttpStatusCode()).body(exceptionResponse);
     }
 
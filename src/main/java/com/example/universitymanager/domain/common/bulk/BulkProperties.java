@@ -0,0 +1,16 @@
+package com.example.universitymanager.domain.common.bulk;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.bulk")
+@Getter
+@Setter
+public class BulkProperties {
+
+    private int maxItems = 10000;
+    private int flushSize = 500;
+}
@@ -0,0 +1,18 @@
+package com.example.universitymanager.domain.common.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caches are sized and expired by {@code spring.cache.caffeine.spec}. The cache advice runs outside the
+ * transactional one, so a hit is served without opening a transaction or borrowing a connection.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String STUDENTS = "students";
+    public static final String LECTURERS = "lecturers";
+    public static final String COURSES = "courses";
+}
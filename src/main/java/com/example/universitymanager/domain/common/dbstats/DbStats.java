@@ -0,0 +1,26 @@
+package com.example.universitymanager.domain.common.dbstats;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public class DbStats {
+
+    private int statements;
+    private long jdbcNanos;
+    private int entitiesLoaded;
+
+    void statementExecuted(long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    public double getJdbcMillis() {
+        return jdbcNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.universitymanager.domain.common.dbstats;
+
+/**
+ * Binds the {@link DbStats} of the request being served to its thread. Hibernate listeners report into it
+ * and do nothing when no request is being measured, e.g. in scheduled jobs.
+ */
+public final class DbStatsContext {
+
+    private static final ThreadLocal<DbStats> CURRENT = new ThreadLocal<>();
+
+    private DbStatsContext() {
+    }
+
+    public static DbStats start() {
+        DbStats dbStats = new DbStats();
+        CURRENT.set(dbStats);
+        return dbStats;
+    }
+
+    public static DbStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+}
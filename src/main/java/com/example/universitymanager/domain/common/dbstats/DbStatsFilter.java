@@ -0,0 +1,49 @@
+package com.example.universitymanager.domain.common.dbstats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class DbStatsFilter extends OncePerRequestFilter {
+
+    private final DbStatsProperties dbStatsProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !dbStatsProperties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        DbStats dbStats = DbStatsContext.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DbStatsContext.end();
+            if (dbStats.getStatements() > dbStatsProperties.getStatementThreshold()) {
+                log.warn("{} {} issued {} SQL statements, above the threshold of {} ({} ms in JDBC, {} entities loaded)",
+                        request.getMethod(), request.getRequestURI(), dbStats.getStatements(),
+                        dbStatsProperties.getStatementThreshold(), dbStats.getJdbcMillis(), dbStats.getEntitiesLoaded());
+            } else if (log.isDebugEnabled()) {
+                log.debug("{} {} issued {} SQL statements ({} ms in JDBC, {} entities loaded)",
+                        request.getMethod(), request.getRequestURI(), dbStats.getStatements(),
+                        dbStats.getJdbcMillis(), dbStats.getEntitiesLoaded());
+            }
+        }
+    }
+}
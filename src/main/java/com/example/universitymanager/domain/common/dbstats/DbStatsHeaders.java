@@ -0,0 +1,30 @@
+package com.example.universitymanager.domain.common.dbstats;
+
+import javax.servlet.http.HttpServletResponse;
+import java.util.Locale;
+
+public final class DbStatsHeaders {
+
+    public static final String STATEMENTS = "X-DB-Statements";
+    public static final String TIME = "X-DB-Time-Ms";
+    public static final String ENTITIES_LOADED = "X-DB-Entities-Loaded";
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private DbStatsHeaders() {
+    }
+
+    /**
+     * Writes the statistics gathered so far. Called just before the response is committed, so statements
+     * issued while the body is being streamed are only reflected in the log line.
+     */
+    static void write(HttpServletResponse response, DbStats dbStats) {
+        if (response.isCommitted()) {
+            return;
+        }
+        response.setHeader(STATEMENTS, String.valueOf(dbStats.getStatements()));
+        response.setHeader(TIME, String.format(Locale.ROOT, "%.2f", dbStats.getJdbcMillis()));
+        response.setHeader(ENTITIES_LOADED, String.valueOf(dbStats.getEntitiesLoaded()));
+        response.setHeader(SERVER_TIMING, String.format(Locale.ROOT, "db;dur=%.2f;desc=\"%d statements\"",
+                dbStats.getJdbcMillis(), dbStats.getStatements()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.universitymanager.domain.common.dbstats;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Covers handlers that write no body (204 and 304 responses), which never reach {@link DbStatsResponseAdvice}.
+ */
+public class DbStatsInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void postHandle(HttpServletRequest request,
+                           HttpServletResponse response,
+                           Object handler,
+                           ModelAndView modelAndView) {
+        DbStats dbStats = DbStatsContext.current();
+        if (dbStats != null) {
+            DbStatsHeaders.write(response, dbStats);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.universitymanager.domain.common.dbstats;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.db-stats")
+@Getter
+@Setter
+public class DbStatsProperties {
+
+    private boolean enabled = true;
+    private int statementThreshold = 20;
+}
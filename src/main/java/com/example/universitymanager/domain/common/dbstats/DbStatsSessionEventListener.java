@@ -0,0 +1,35 @@
+package com.example.universitymanager.domain.common.dbstats;
+
+import org.hibernate.engine.spi.BaseSessionEventListener;
+
+public class DbStatsSessionEventListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        DbStats dbStats = DbStatsContext.current();
+        if (dbStats != null) {
+            dbStats.statementExecuted(System.nanoTime() - statementStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        DbStats dbStats = DbStatsContext.current();
+        if (dbStats != null) {
+            dbStats.statementExecuted(System.nanoTime() - batchStart);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.universitymanager.domain.common.etag;
+
+import com.example.universitymanager.domain.common.exceptions.PreconditionRequiredException;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {
+    }
+
+    public static String forVersion(Object... versionParts) {
+        return '"' + join(versionParts) + '"';
+    }
+
+    public static String forCollection(Object... contentParts) {
+        byte[] joined = join(contentParts).getBytes(StandardCharsets.UTF_8);
+        return '"' + DigestUtils.md5DigestAsHex(joined) + '"';
+    }
+
+    /**
+     * Resolves the version an update is based on, from an {@code If-Match} header holding an ETag issued by
+     * {@link #forVersion(Object...)} or from the request body. Updates without either are rejected rather than
+     * applied over whatever version is current, which would silently drop concurrent changes.
+     */
+    public static Long requireVersion(String ifMatch, Long bodyVersion) {
+        if (ifMatch == null) {
+            if (bodyVersion == null) {
+                throw new PreconditionRequiredException("Entity version must be sent in the If-Match header or the request body");
+            }
+            return bodyVersion;
+        }
+        Long headerVersion = parseVersion(ifMatch);
+        if (bodyVersion != null && !bodyVersion.equals(headerVersion)) {
+            throw new IllegalArgumentException("If-Match header and request body name different versions");
+        }
+        return headerVersion;
+    }
+
+    /**
+     * The entity's own version is always the first part of a {@link #forVersion(Object...)} ETag.
+     */
+    private static Long parseVersion(String ifMatch) {
+        String eTag = ifMatch.trim();
+        if (eTag.startsWith(WEAK_PREFIX)) {
+            eTag = eTag.substring(WEAK_PREFIX.length());
+        }
+        if (eTag.length() < 2 || eTag.charAt(0) != '"' || eTag.charAt(eTag.length() - 1) != '"') {
+            throw new IllegalArgumentException("If-Match header must hold a single ETag of the entity");
+        }
+        String versionPart = eTag.substring(1, eTag.length() - 1).split("-", 2)[0];
+        try {
+            return Long.valueOf(versionPart);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("If-Match header must hold a single ETag of the entity");
+        }
+    }
+
+    private static String join(Object... parts) {
+        return Arrays.stream(parts)
+                .map(part -> Objects.toString(part, ""))
+                .collect(Collectors.joining("-"));
+    }
+}
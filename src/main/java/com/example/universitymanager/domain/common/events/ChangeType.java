@@ -0,0 +1,7 @@
+package com.example.universitymanager.domain.common.events;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
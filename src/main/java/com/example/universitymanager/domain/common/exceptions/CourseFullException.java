@@ -0,0 +1,14 @@
+package com.example.universitymanager.domain.common.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class CourseFullException extends BaseException {
+    public CourseFullException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.CONFLICT;
+    }
+}
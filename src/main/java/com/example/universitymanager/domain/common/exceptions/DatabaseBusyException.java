@@ -0,0 +1,14 @@
+package com.example.universitymanager.domain.common.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class DatabaseBusyException extends BaseException {
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+}
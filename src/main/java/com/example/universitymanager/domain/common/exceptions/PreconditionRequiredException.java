@@ -0,0 +1,14 @@
+package com.example.universitymanager.domain.common.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+public class PreconditionRequiredException extends BaseException {
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.PRECONDITION_REQUIRED;
+    }
+}
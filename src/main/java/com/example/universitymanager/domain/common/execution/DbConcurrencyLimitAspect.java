@@ -0,0 +1,72 @@
+package com.example.universitymanager.domain.common.execution;
+
+import com.example.universitymanager.domain.common.exceptions.DatabaseBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds concurrent database work to the size of the connection pool. With virtual threads nothing limits how
+ * many requests reach the data layer at once, so without it thousands of them would queue inside the pool,
+ * each pinning its carrier thread in the driver's synchronized sections. A permit is taken before the
+ * transaction opens and held until it completes; nested calls on the same thread reuse it. This relies on
+ * {@code spring.jpa.open-in-view} being off: otherwise the request would keep its session, and with it a
+ * connection, after the permit has been released.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DbConcurrencyLimitAspect {
+
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+
+    public DbConcurrencyLimitAspect(int permits, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        Gauge.builder("db.permits.available", this.permits, Semaphore::availablePermits)
+                .register(meterRegistry);
+        Gauge.builder("db.permits.queued", this.permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+    }
+
+    @Around("@within(org.springframework.transaction.annotation.Transactional)"
+            + " || @annotation(org.springframework.transaction.annotation.Transactional)"
+            + " || execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        int depth = DEPTH.get();
+        if (depth > 0) {
+            return proceedNested(joinPoint, depth);
+        }
+        if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+            throw new DatabaseBusyException("Database is busy. Request rejected");
+        }
+        try {
+            return proceedNested(joinPoint, depth);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static Object proceedNested(ProceedingJoinPoint joinPoint, int depth) throws Throwable {
+        DEPTH.set(depth + 1);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (depth == 0) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.universitymanager.domain.common.execution;
+
+public enum ExecutionMode {
+
+    /**
+     * Requests are served by the Tomcat worker pool.
+     */
+    PLATFORM,
+
+    /**
+     * Every request is served by a virtual thread of its own and database access is bounded by
+     * {@link DbConcurrencyLimitAspect}.
+     */
+    VIRTUAL
+}
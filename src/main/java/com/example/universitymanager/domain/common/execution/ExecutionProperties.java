@@ -0,0 +1,22 @@
+package com.example.universitymanager.domain.common.execution;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.execution")
+@Getter
+@Setter
+public class ExecutionProperties {
+
+    private ExecutionMode mode = ExecutionMode.PLATFORM;
+    /**
+     * Concurrent database units of work allowed in virtual mode, 0 to match the connection pool size.
+     */
+    private int dbPermits = 0;
+    private Duration dbAcquireTimeout = Duration.ofSeconds(30);
+}
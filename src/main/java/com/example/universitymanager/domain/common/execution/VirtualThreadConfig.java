@@ -0,0 +1,32 @@
+package com.example.universitymanager.domain.common.execution;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Serves every request on a virtual thread of its own, so slow clients and blocking JDBC calls no longer
+ * exhaust the Tomcat worker pool. The connection pool stays the real concurrency limit.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.execution", name = "mode", havingValue = "virtual")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean
+    public DbConcurrencyLimitAspect dbConcurrencyLimitAspect(ExecutionProperties executionProperties,
+                                                             @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                                             MeterRegistry meterRegistry) {
+        int permits = executionProperties.getDbPermits() > 0 ? executionProperties.getDbPermits() : poolSize;
+        return new DbConcurrencyLimitAspect(permits, executionProperties.getDbAcquireTimeout(), meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.universitymanager.domain.common.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class ExportColumn<T> {
+
+    private final String name;
+    private final Function<T, Object> valueExtractor;
+}
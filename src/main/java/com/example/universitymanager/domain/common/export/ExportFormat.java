@@ -0,0 +1,27 @@
+package com.example.universitymanager.domain.common.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String fileExtension;
+    private final String mediaType;
+
+    public static ExportFormat fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return NDJSON;
+        }
+        return Arrays.stream(values())
+                .filter(format -> format.fileExtension.equalsIgnoreCase(param))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported export format " + param));
+    }
+}
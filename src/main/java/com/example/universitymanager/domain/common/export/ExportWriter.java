@@ -0,0 +1,98 @@
+package com.example.universitymanager.domain.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Writes rows straight to the response as they are produced. The first row and then every
+ * {@value #FLUSH_INTERVAL} rows are flushed, so clients start receiving data while the query is still running.
+ */
+public class ExportWriter<T> implements Consumer<T>, Closeable {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ExportFormat format;
+    private final Writer writer;
+    private final ObjectWriter jsonWriter;
+    private final List<ExportColumn<T>> columns;
+    private long rowCount;
+
+    private ExportWriter(ExportFormat format, Writer writer, ObjectWriter jsonWriter, List<ExportColumn<T>> columns) {
+        this.format = format;
+        this.writer = writer;
+        this.jsonWriter = jsonWriter;
+        this.columns = columns;
+    }
+
+    public static <T> ExportWriter<T> open(ExportFormat format,
+                                           String fileName,
+                                           List<ExportColumn<T>> columns,
+                                           ObjectMapper objectMapper,
+                                           HttpServletResponse response) throws IOException {
+        response.setContentType(format.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + fileName + "." + format.getFileExtension() + "\"");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        ExportWriter<T> exportWriter = new ExportWriter<>(format, writer, objectMapper.writer(), columns);
+        if (format == ExportFormat.CSV) {
+            exportWriter.writeLine(columns.stream()
+                    .map(ExportColumn::getName)
+                    .collect(Collectors.joining(",")));
+        }
+        return exportWriter;
+    }
+
+    @Override
+    public void accept(T row) {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeLine(columns.stream()
+                        .map(column -> escapeCsv(column.getValueExtractor().apply(row)))
+                        .collect(Collectors.joining(",")));
+            } else {
+                writeLine(jsonWriter.writeValueAsString(row));
+            }
+            rowCount++;
+            if (rowCount == 1 || rowCount % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeLine(String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.universitymanager.domain.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("universitymanager.EnrollmentChange")
+@Label("Enrollment Change")
+@Category({"University Manager", "Enrollment"})
+@StackTrace(false)
+public class EnrollmentChangeEvent extends Event {
+
+    @Label("Course Id")
+    public long courseId;
+
+    @Label("Students Added")
+    public int studentsAdded;
+
+    @Label("Students Removed")
+    public int studentsRemoved;
+}
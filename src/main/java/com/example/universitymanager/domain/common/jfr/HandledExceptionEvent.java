@@ -0,0 +1,29 @@
+package com.example.universitymanager.domain.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("universitymanager.HandledException")
+@Label("Handled Exception")
+@Category({"University Manager", "Web"})
+@StackTrace(false)
+public class HandledExceptionEvent extends Event {
+
+    @Label("Exception")
+    public String exception;
+
+    @Label("Message")
+    public String message;
+
+    @Label("HTTP Status")
+    public int httpStatus;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Request URI")
+    public String requestUri;
+}
@@ -0,0 +1,134 @@
+package com.example.universitymanager.domain.common.jfr;
+
+import com.example.universitymanager.domain.common.pagination.CursorPage;
+import com.example.universitymanager.domain.course.Course;
+import com.example.universitymanager.domain.course.CourseDto;
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.student.Student;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Emits a {@link ServiceOperationEvent} for every public method of the student, lecturer and course services.
+ * When the event is disabled in the recording settings the call is passed straight through, so nothing beyond
+ * the {@code isEnabled} check is paid for.
+ */
+@Aspect
+@Component
+public class JfrServiceOperationAspect {
+
+    @Around("(within(com.example.universitymanager.domain.student.StudentService)"
+            + " || within(com.example.universitymanager.domain.lecturer.LecturerService)"
+            + " || within(com.example.universitymanager.domain.course.CourseService))"
+            + " && execution(public * *(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        Object[] args = joinPoint.getArgs();
+        int[] consumedRows = countConsumedRows(args);
+        event.begin();
+        try {
+            Object result = joinPoint.proceed(args);
+            event.end();
+            if (event.shouldCommit()) {
+                event.succeeded = true;
+                event.entityId = entityId(args, result);
+                event.rosterSize = rosterSize(result);
+                event.rowCount = consumedRows == null ? rowCount(result) : consumedRows[0];
+                commit(event, joinPoint);
+            }
+            return result;
+        } catch (Throwable throwable) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.entityId = entityId(args, null);
+                event.exception = throwable.getClass().getSimpleName();
+                commit(event, joinPoint);
+            }
+            throw throwable;
+        }
+    }
+
+    private static void commit(ServiceOperationEvent event, ProceedingJoinPoint joinPoint) {
+        event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        event.operation = joinPoint.getSignature().getName();
+        event.commit();
+    }
+
+    /**
+     * Wraps the row consumer of export operations so the exported rows can be counted.
+     */
+    @SuppressWarnings("unchecked")
+    private static int[] countConsumedRows(Object[] args) {
+        for (int index = 0; index < args.length; index++) {
+            if (args[index] instanceof Consumer) {
+                Consumer<Object> rowConsumer = (Consumer<Object>) args[index];
+                int[] consumedRows = new int[1];
+                args[index] = (Consumer<Object>) row -> {
+                    consumedRows[0]++;
+                    rowConsumer.accept(row);
+                };
+                return consumedRows;
+            }
+        }
+        return null;
+    }
+
+    private static long entityId(Object[] args, Object result) {
+        if (args.length > 0 && args[0] instanceof Long) {
+            return (Long) args[0];
+        }
+        Long id = idOf(result);
+        if (id == null && args.length > 0) {
+            id = idOf(args[0]);
+        }
+        return id == null ? 0 : id;
+    }
+
+    private static Long idOf(Object object) {
+        if (object instanceof Student) {
+            return ((Student) object).getId();
+        }
+        if (object instanceof Lecturer) {
+            return ((Lecturer) object).getId();
+        }
+        if (object instanceof Course) {
+            return ((Course) object).getId();
+        }
+        if (object instanceof CourseDto) {
+            return ((CourseDto) object).getId();
+        }
+        return null;
+    }
+
+    /**
+     * Courses returned by the service always have their students fetched, so reading the roster size here
+     * never triggers lazy loading.
+     */
+    private static int rosterSize(Object result) {
+        if (result instanceof Course) {
+            return ((Course) result).getStudents().size();
+        }
+        if (result instanceof CourseDto && ((CourseDto) result).getStudentDtos() != null) {
+            return ((CourseDto) result).getStudentDtos().size();
+        }
+        return 0;
+    }
+
+    private static int rowCount(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof CursorPage) {
+            return ((CursorPage<?>) result).getItems().size();
+        }
+        return result == null ? 0 : 1;
+    }
+}
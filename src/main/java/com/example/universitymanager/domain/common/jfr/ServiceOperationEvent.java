@@ -0,0 +1,40 @@
+package com.example.universitymanager.domain.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("universitymanager.ServiceOperation")
+@Label("Service Operation")
+@Category({"University Manager", "Service"})
+@Description("Public method call on a domain service")
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+
+    @Label("Service")
+    public String service;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Entity Id")
+    @Description("Id of the entity the operation works on, 0 when it works on many")
+    public long entityId;
+
+    @Label("Roster Size")
+    @Description("Students enrolled in the course returned by the operation, 0 for other operations")
+    public int rosterSize;
+
+    @Label("Row Count")
+    @Description("Rows returned, created or exported by the operation")
+    public int rowCount;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    @Label("Exception")
+    public String exception;
+}
@@ -0,0 +1,59 @@
+package com.example.universitymanager.domain.common.pagination;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Cursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final String sort;
+    private final long id;
+    private final String key;
+
+    public static Cursor of(String sort, long id, Object key) {
+        return new Cursor(sort, id, key == null ? "" : String.valueOf(key));
+    }
+
+    public static Cursor decode(String token, String expectedSort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor " + token);
+        }
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor " + token);
+        }
+        if (!parts[0].equals(expectedSort)) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + parts[0] + ", not " + expectedSort);
+        }
+        try {
+            return new Cursor(parts[0], Long.parseLong(parts[1]), parts[2]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor " + token);
+        }
+    }
+
+    public int getKeyAsInt() {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor key " + key);
+        }
+    }
+
+    public String encode() {
+        String raw = sort + SEPARATOR + id + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
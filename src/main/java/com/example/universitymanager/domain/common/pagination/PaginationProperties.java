@@ -0,0 +1,26 @@
+package com.example.universitymanager.domain.common.pagination;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.pagination")
+@Getter
+@Setter
+public class PaginationProperties {
+
+    private int defaultPageSize = 50;
+    private int maxPageSize = 500;
+
+    public int resolvePageSize(Integer requestedPageSize) {
+        if (requestedPageSize == null) {
+            return defaultPageSize;
+        }
+        if (requestedPageSize < 1) {
+            throw new IllegalArgumentException("Page size should not be less than 1");
+        }
+        return Math.min(requestedPageSize, maxPageSize);
+    }
+}
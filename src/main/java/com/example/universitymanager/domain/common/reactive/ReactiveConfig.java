@@ -0,0 +1,38 @@
+package com.example.universitymanager.domain.common.reactive;
+
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+/**
+ * Keeps JPA in charge of writes and schema initialization once an R2DBC connection factory is on the classpath.
+ * Reactive reads only ever run plain queries, so they need neither a transaction manager nor the init scripts.
+ */
+@Configuration
+public class ReactiveConfig {
+
+    /**
+     * The R2DBC transaction manager would otherwise make the JPA one back off.
+     */
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    /**
+     * Spring Boot prefers running {@code spring.sql.init} scripts through R2DBC, which would run them before
+     * Hibernate has created the schema.
+     */
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(DataSource dataSource,
+                                                                                      SqlInitializationProperties properties) {
+        return new SqlDataSourceScriptDatabaseInitializer(dataSource, properties);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.universitymanager.domain.common.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC writes the items of a streamed {@code Flux} on its async task executor, which is otherwise a
+ * {@code SimpleAsyncTaskExecutor} starting a new thread for every write. This gives streams a bounded pool.
+ * How long a stream may stay open is set by {@code spring.mvc.async.request-timeout}.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ReactiveMvcConfig implements WebMvcConfigurer {
+
+    private final ReactiveProperties reactiveProperties;
+
+    @Bean
+    public ThreadPoolTaskExecutor streamingTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(reactiveProperties.getStreamingCorePoolSize());
+        executor.setMaxPoolSize(reactiveProperties.getStreamingMaxPoolSize());
+        executor.setQueueCapacity(reactiveProperties.getStreamingQueueCapacity());
+        executor.setThreadNamePrefix("mvc-stream-");
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingTaskExecutor());
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.universitymanager.domain.common.reactive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.reactive")
+@Getter
+@Setter
+public class ReactiveProperties {
+
+    /**
+     * Threads writing streamed items to responses. Each open stream holds one only while an item is written.
+     */
+    private int streamingCorePoolSize = 8;
+    private int streamingMaxPoolSize = 32;
+    /**
+     * Item writes queued before the pool grows past its core size; once the pool is full, writes are rejected.
+     */
+    private int streamingQueueCapacity = 1000;
+}
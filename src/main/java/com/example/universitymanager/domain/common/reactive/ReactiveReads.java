@@ -0,0 +1,19 @@
+package com.example.universitymanager.domain.common.reactive;
+
+import io.r2dbc.spi.Statement;
+
+public final class ReactiveReads {
+
+    /**
+     * Rows fetched per round trip. The driver requests the next batch only when the subscriber has consumed
+     * the previous one, so a slow client throttles the query instead of filling memory.
+     */
+    public static final int FETCH_SIZE = 256;
+
+    private ReactiveReads() {
+    }
+
+    public static Statement withFetchSize(Statement statement) {
+        return statement.fetchSize(FETCH_SIZE);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.universitymanager.domain.common.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured datasource with one that routes {@code @Transactional(readOnly = true)} work to
+ * the replicas listed under {@code app.read-replicas.replicas}. Each pool reports its own {@code hikaricp}
+ * metrics, tagged with its name. Replicas can lag behind the primary, so a read that must see a write made
+ * just before it has to run in a read-write transaction.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReadReplicaProperties readReplicaProperties,
+                                                             Environment environment,
+                                                             MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        List<ReadReplicaProperties.Replica> replicaProperties = readReplicaProperties.getReplicas();
+        for (int index = 0; index < replicaProperties.size(); index++) {
+            ReadReplicaProperties.Replica replicaProperty = replicaProperties.get(index);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setJdbcUrl(replicaProperty.getUrl());
+            replica.setUsername(replicaProperty.getUsername());
+            replica.setPassword(replicaProperty.getPassword());
+            replica.setMaximumPoolSize(replicaProperty.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replica.setPoolName("replica-" + index);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                     ReadReplicaProperties readReplicaProperties) {
+        return new ReplicaHealthChecker(replicaRoutingDataSource, readReplicaProperties.getHealthCheckInterval());
+    }
+
+    @Bean
+    public ReadReplicaHealthIndicator readReplicasHealthIndicator(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReadReplicaHealthIndicator(replicaRoutingDataSource);
+    }
+}
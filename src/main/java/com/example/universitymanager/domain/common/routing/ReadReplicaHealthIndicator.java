@@ -0,0 +1,25 @@
+package com.example.universitymanager.domain.common.routing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+
+import java.util.Map;
+
+/**
+ * Reports every replica's rotation status. The application stays up while replicas are down because reads fall
+ * back to the primary, so unhealthy replicas only degrade the status to {@code OUT_OF_SERVICE} when all are gone.
+ */
+@RequiredArgsConstructor
+public class ReadReplicaHealthIndicator extends AbstractHealthIndicator {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        Map<String, Boolean> replicaHealth = routingDataSource.getReplicaHealth();
+        boolean anyHealthy = replicaHealth.isEmpty() || replicaHealth.containsValue(true);
+        builder.status(anyHealthy ? "UP" : "OUT_OF_SERVICE");
+        replicaHealth.forEach((replicaName, healthy) -> builder.withDetail(replicaName, healthy ? "UP" : "DOWN"));
+    }
+}
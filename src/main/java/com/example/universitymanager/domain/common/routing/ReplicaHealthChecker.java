@@ -0,0 +1,84 @@
+package com.example.universitymanager.domain.common.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes replicas that fail a validation query out of rotation and puts them back once they pass again, so
+ * read-only traffic falls back to the primary instead of failing while a replica is down.
+ * <p>
+ * Checks run on a thread of their own and through a one-connection probe pool per replica with short timeouts.
+ * A replica that stops answering therefore costs a check about a second instead of the serving pool's
+ * connection timeout, and never holds up the other scheduled jobs.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+    private static final long PROBE_CONNECTION_TIMEOUT_MILLIS = 1000;
+    private static final long PROBE_VALIDATION_TIMEOUT_MILLIS = 500;
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Map<String, HikariDataSource> probes = new LinkedHashMap<>();
+    private final ScheduledExecutorService executor =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-health-"));
+
+    public ReplicaHealthChecker(ReplicaRoutingDataSource routingDataSource, Duration healthCheckInterval) {
+        this.routingDataSource = routingDataSource;
+        routingDataSource.getReplicas().forEach((replicaName, replica) -> probes.put(replicaName, probe(replica)));
+        long intervalMillis = healthCheckInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::checkReplicas, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void checkReplicas() {
+        for (Map.Entry<String, HikariDataSource> probe : probes.entrySet()) {
+            boolean healthy = isValid(probe.getValue());
+            Boolean wasHealthy = routingDataSource.getReplicaHealth().get(probe.getKey());
+            if (wasHealthy != null && wasHealthy != healthy) {
+                log.warn("Read replica {} is {}", probe.getKey(), healthy ? "back in rotation" : "down, routing its reads to the primary");
+            }
+            routingDataSource.markHealthy(probe.getKey(), healthy);
+        }
+    }
+
+    /**
+     * Stops the checks and closes the probe pools. Called on context shutdown.
+     */
+    public void close() {
+        executor.shutdownNow();
+        probes.values().forEach(HikariDataSource::close);
+    }
+
+    private static HikariDataSource probe(HikariDataSource replica) {
+        HikariDataSource probe = new HikariDataSource();
+        probe.setJdbcUrl(replica.getJdbcUrl());
+        probe.setUsername(replica.getUsername());
+        probe.setPassword(replica.getPassword());
+        probe.setMaximumPoolSize(1);
+        probe.setMinimumIdle(0);
+        probe.setConnectionTimeout(PROBE_CONNECTION_TIMEOUT_MILLIS);
+        probe.setValidationTimeout(PROBE_VALIDATION_TIMEOUT_MILLIS);
+        probe.setInitializationFailTimeout(-1);
+        probe.setReadOnly(true);
+        probe.setPoolName(replica.getPoolName() + "-health");
+        return probe;
+    }
+
+    private static boolean isValid(HikariDataSource probe) {
+        try (Connection connection = probe.getConnection()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException exception) {
+            return false;
+        }
+    }
+}
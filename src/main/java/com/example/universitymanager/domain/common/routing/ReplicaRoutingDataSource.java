@@ -0,0 +1,96 @@
+package com.example.universitymanager.domain.common.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Sends connections of read-only transactions to a healthy replica, round robin, and everything else to the
+ * primary. It must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * read-only flag is only bound to the thread after the transaction manager has asked for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String ROUTE_COUNTER_NAME = "datasource.route";
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final Map<String, Boolean> healthyReplicas = new ConcurrentHashMap<>();
+    private final Map<String, Counter> routeCounters = new HashMap<>();
+    private final List<String> replicaNames;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary,
+                                    Map<String, HikariDataSource> replicas,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaNames = List.copyOf(replicas.keySet());
+        Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+        targetDataSources.put(PRIMARY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        routeCounters.put(PRIMARY, routeCounter(PRIMARY, meterRegistry));
+        replicaNames.forEach(replicaName -> {
+            healthyReplicas.put(replicaName, true);
+            routeCounters.put(replicaName, routeCounter(replicaName, meterRegistry));
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String route = TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? nextHealthyReplica() : PRIMARY;
+        routeCounters.get(route).increment();
+        return route;
+    }
+
+    /**
+     * Closes the primary and replica pools, which are not beans of their own. Called on context shutdown.
+     */
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    Map<String, Boolean> getReplicaHealth() {
+        return replicaNames.stream().collect(Collectors.toMap(
+                replicaName -> replicaName, healthyReplicas::get, (first, second) -> first, LinkedHashMap::new));
+    }
+
+    void markHealthy(String replicaName, boolean healthy) {
+        healthyReplicas.put(replicaName, healthy);
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaNames.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int offset = 0; offset < size; offset++) {
+            String replicaName = replicaNames.get((start + offset) % size);
+            if (healthyReplicas.get(replicaName)) {
+                return replicaName;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private static Counter routeCounter(String route, MeterRegistry meterRegistry) {
+        return Counter.builder(ROUTE_COUNTER_NAME)
+                .tag("route", route)
+                .register(meterRegistry);
+    }
+}
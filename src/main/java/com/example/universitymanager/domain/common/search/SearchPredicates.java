@@ -0,0 +1,36 @@
+package com.example.universitymanager.domain.common.search;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import java.util.Locale;
+
+public final class SearchPredicates {
+
+    private static final char ESCAPE_CHAR = '\\';
+
+    private SearchPredicates() {
+    }
+
+    /**
+     * Case-insensitive prefix match written as {@code lower(column) like 'prefix%'}, so it can be served by
+     * a {@code lower(column) text_pattern_ops} index instead of a table scan.
+     */
+    public static Predicate startsWithIgnoringCase(CriteriaBuilder criteriaBuilder,
+                                                   Expression<String> expression,
+                                                   String prefix) {
+        String pattern = escapeLikeWildcards(prefix.trim().toLowerCase(Locale.ROOT)) + "%";
+        return criteriaBuilder.like(criteriaBuilder.lower(expression), pattern, ESCAPE_CHAR);
+    }
+
+    private static String escapeLikeWildcards(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char character : value.toCharArray()) {
+            if (character == ESCAPE_CHAR || character == '%' || character == '_') {
+                escaped.append(ESCAPE_CHAR);
+            }
+            escaped.append(character);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.universitymanager.domain.common.synthetic;
+
+import com.example.universitymanager.domain.common.bulk.BulkProperties;
+import com.example.universitymanager.domain.course.Course;
+import com.example.universitymanager.domain.course.CourseRepository;
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerService;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Loads a synthetic directory on startup for local load testing. Roster sizes follow a log-normal
+ * distribution, so most courses are small and a few are very large, as on a real registration day.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.synthetic-data", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final String[] FIRST_NAMES = {"Anna", "Piotr", "Maria", "Jan", "Katarzyna", "Tomasz",
+            "Agnieszka", "Pawel", "Ewa", "Michal", "Olivia", "Jack", "Emma", "Noah", "Sophia", "Liam"};
+    private static final String[] LAST_NAMES = {"Nowak", "Kowalski", "Wisniewski", "Wojcik", "Kowalczyk",
+            "Kaminski", "Lewandowski", "Zielinski", "Smith", "Johnson", "Brown", "Taylor", "Wilson", "Davies"};
+    private static final String[] TITLES = {"MSc", "PhD", "Prof."};
+    private static final int COURSE_CHUNK_SIZE = 100;
+
+    private final SyntheticDataProperties properties;
+    private final BulkProperties bulkProperties;
+    private final StudentService studentService;
+    private final LecturerService lecturerService;
+    private final CourseRepository courseRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Random random = new Random(properties.getSeed());
+        List<Lecturer> lecturers = createLecturers(random);
+        List<Student> students = createStudents(random);
+        createCourses(random, lecturers, students);
+    }
+
+    private List<Lecturer> createLecturers(Random random) {
+        List<Lecturer> lecturers = new ArrayList<>(properties.getLecturers());
+        for (int index = 0; index < properties.getLecturers(); index++) {
+            String firstName = pick(random, FIRST_NAMES);
+            String lastName = pick(random, LAST_NAMES);
+            lecturers.add(Lecturer.builder()
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .title(pick(random, TITLES))
+                    .email(firstName.toLowerCase() + "." + lastName.toLowerCase() + index + "@university.example")
+                    .build());
+        }
+        List<Lecturer> createdLecturers = new ArrayList<>(lecturers.size());
+        for (int from = 0; from < lecturers.size(); from += bulkProperties.getMaxItems()) {
+            createdLecturers.addAll(lecturerService.createAll(
+                    lecturers.subList(from, Math.min(from + bulkProperties.getMaxItems(), lecturers.size()))));
+        }
+        return createdLecturers;
+    }
+
+    private List<Student> createStudents(Random random) {
+        List<Student> students = new ArrayList<>(properties.getStudents());
+        for (int index = 0; index < properties.getStudents(); index++) {
+            students.add(Student.builder()
+                    .firstName(pick(random, FIRST_NAMES))
+                    .lastName(pick(random, LAST_NAMES))
+                    .indexCode(String.valueOf(100000 + index))
+                    .studiesStartYear(2015 + random.nextInt(9))
+                    .build());
+        }
+        List<Student> createdStudents = new ArrayList<>(students.size());
+        for (int from = 0; from < students.size(); from += bulkProperties.getMaxItems()) {
+            createdStudents.addAll(studentService.createAll(
+                    students.subList(from, Math.min(from + bulkProperties.getMaxItems(), students.size()))));
+        }
+        return createdStudents;
+    }
+
+    private void createCourses(Random random, List<Lecturer> lecturers, List<Student> students) {
+        if (lecturers.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < properties.getCourses(); from += COURSE_CHUNK_SIZE) {
+            List<Course> courses = new ArrayList<>(COURSE_CHUNK_SIZE);
+            for (int index = from; index < Math.min(from + COURSE_CHUNK_SIZE, properties.getCourses()); index++) {
+                Course course = Course.builder()
+                        .courseName("Course " + (index + 1))
+                        .leadingLecturer(lecturers.get(random.nextInt(lecturers.size())))
+                        .build();
+                for (int studentIndex : sampleIndexes(random, rosterSize(random, students.size()), students.size())) {
+                    course.addStudent(students.get(studentIndex));
+                }
+                courses.add(course);
+            }
+            transactionTemplate.executeWithoutResult(status -> courseRepo.saveAll(courses));
+        }
+    }
+
+    private int rosterSize(Random random, int studentCount) {
+        double logNormal = Math.exp(Math.log(properties.getMedianRosterSize())
+                + properties.getRosterSizeSigma() * random.nextGaussian());
+        return (int) Math.min(Math.round(logNormal), Math.min(properties.getMaxRosterSize(), studentCount));
+    }
+
+    private static Set<Integer> sampleIndexes(Random random, int sampleSize, int bound) {
+        Set<Integer> indexes = new HashSet<>(sampleSize * 2);
+        while (indexes.size() < sampleSize) {
+            indexes.add(random.nextInt(bound));
+        }
+        return indexes;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
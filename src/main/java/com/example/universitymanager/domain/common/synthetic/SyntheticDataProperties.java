@@ -0,0 +1,22 @@
+package com.example.universitymanager.domain.common.synthetic;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.synthetic-data")
+@Getter
+@Setter
+public class SyntheticDataProperties {
+
+    private boolean enabled = false;
+    private int lecturers = 50;
+    private int students = 5000;
+    private int courses = 200;
+    private int medianRosterSize = 25;
+    private double rosterSizeSigma = 0.8;
+    private int maxRosterSize = 300;
+    private long seed = 42;
+}
@@ -0,0 +1,20 @@
+package com.example.universitymanager.domain.common.timing;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class EndpointTimingDto {
+
+    private String endpoint;
+    private int samples;
+    private Map<String, Double> meanMillis;
+    private double totalP50Millis;
+    private double totalP95Millis;
+    private double totalMaxMillis;
+}
@@ -0,0 +1,16 @@
+package com.example.universitymanager.domain.common.timing;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Phase {
+
+    CONTROLLER("controller"),
+    SERVICE("service"),
+    REPOSITORY("repository"),
+    SERIALIZATION("serialization");
+
+    private final String metricName;
+}
@@ -0,0 +1,59 @@
+package com.example.universitymanager.domain.common.timing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Accumulates the time a request spends in each {@link Phase}. Phases nest (controller calls service calls
+ * repository), so each phase is charged only its self time: a frame's duration minus the time of the frames
+ * opened inside it. The phases of one request therefore add up to at most its total time.
+ */
+public class RequestTiming {
+
+    private final long startNanos = System.nanoTime();
+    private final long[] selfNanos = new long[Phase.values().length];
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private boolean headerWritten;
+
+    void enter(Phase phase) {
+        frames.push(new Frame(phase, System.nanoTime()));
+    }
+
+    void exit() {
+        Frame frame = frames.pop();
+        long elapsed = System.nanoTime() - frame.startNanos;
+        selfNanos[frame.phase.ordinal()] += elapsed - frame.childNanos;
+        Frame parent = frames.peek();
+        if (parent != null) {
+            parent.childNanos += elapsed;
+        }
+    }
+
+    public long getNanos(Phase phase) {
+        return selfNanos[phase.ordinal()];
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    boolean isHeaderWritten() {
+        return headerWritten;
+    }
+
+    void markHeaderWritten() {
+        headerWritten = true;
+    }
+
+    private static final class Frame {
+
+        private final Phase phase;
+        private final long startNanos;
+        private long childNanos;
+
+        private Frame(Phase phase, long startNanos) {
+            this.phase = phase;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.universitymanager.domain.common.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class RequestTimingAspect {
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController) && execution(public * *(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Phase.CONTROLLER);
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Phase.SERVICE);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Phase.REPOSITORY);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, Phase phase) throws Throwable {
+        RequestTiming requestTiming = RequestTimingContext.current();
+        if (requestTiming == null) {
+            return joinPoint.proceed();
+        }
+        requestTiming.enter(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            requestTiming.exit();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.universitymanager.domain.common.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class RequestTimingConfig implements WebMvcConfigurer {
+
+    /**
+     * Replaces the converter Spring Boot would otherwise register, keeping its configured object mapper.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedMappingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // first in line, so its postHandle runs last and the db metric written there does not replace it
+        registry.addInterceptor(new RequestTimingInterceptor()).order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
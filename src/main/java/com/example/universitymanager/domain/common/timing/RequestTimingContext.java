@@ -0,0 +1,27 @@
+package com.example.universitymanager.domain.common.timing;
+
+/**
+ * Binds the {@link RequestTiming} of the request being served to its thread, the same way
+ * {@link com.example.universitymanager.domain.common.dbstats.DbStatsContext} does for SQL statistics.
+ */
+public final class RequestTimingContext {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private RequestTimingContext() {
+    }
+
+    public static RequestTiming start() {
+        RequestTiming requestTiming = new RequestTiming();
+        CURRENT.set(requestTiming);
+        return requestTiming;
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.universitymanager.domain.common.timing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@RequiredArgsConstructor
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final RequestTimingProperties requestTimingProperties;
+    private final TimingBreakdownRegistry timingBreakdownRegistry;
+
+    /**
+     * Unsampled requests are not timed at all, so their responses are written straight through without the
+     * buffering that timing the serialization phase needs.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !requestTimingProperties.isEnabled()
+                || ThreadLocalRandom.current().nextDouble() >= requestTimingProperties.getSampleRate();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestTiming requestTiming = RequestTimingContext.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimingContext.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                timingBreakdownRegistry.record(request.getMethod() + " " + pattern, requestTiming);
+            }
+        }
+    }
+}
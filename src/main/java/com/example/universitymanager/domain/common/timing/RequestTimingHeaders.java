@@ -0,0 +1,32 @@
+package com.example.universitymanager.domain.common.timing;
+
+import com.example.universitymanager.domain.common.dbstats.DbStatsHeaders;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+public final class RequestTimingHeaders {
+
+    public static final String SERVER_TIMING = DbStatsHeaders.SERVER_TIMING;
+
+    private RequestTimingHeaders() {
+    }
+
+    /**
+     * Formats the phases measured so far as a {@code Server-Timing} value. It is added next to the
+     * {@code db} metric written by the SQL statistics, so browsers show both in one breakdown.
+     */
+    static String format(RequestTiming requestTiming) {
+        StringJoiner serverTiming = new StringJoiner(", ");
+        for (Phase phase : Phase.values()) {
+            serverTiming.add(metric(phase.getMetricName(), requestTiming.getNanos(phase)));
+        }
+        serverTiming.add(metric("total", requestTiming.getElapsedNanos()));
+        return serverTiming.toString();
+    }
+
+    private static String metric(String name, long nanos) {
+        return String.format(Locale.ROOT, "%s;dur=%.2f", name, nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.universitymanager.domain.common.timing;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Covers responses that are not written by {@link TimedMappingJackson2HttpMessageConverter}, e.g. 204 and 304.
+ */
+public class RequestTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void postHandle(HttpServletRequest request,
+                           HttpServletResponse response,
+                           Object handler,
+                           ModelAndView modelAndView) {
+        RequestTiming requestTiming = RequestTimingContext.current();
+        if (requestTiming != null && !requestTiming.isHeaderWritten() && !response.isCommitted()) {
+            response.addHeader(RequestTimingHeaders.SERVER_TIMING, RequestTimingHeaders.format(requestTiming));
+            requestTiming.markHeaderWritten();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.universitymanager.domain.common.timing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.request-timing")
+@Getter
+@Setter
+public class RequestTimingProperties {
+
+    private boolean enabled = false;
+    private double sampleRate = 0.1;
+    private int windowSize = 1000;
+}
@@ -0,0 +1,62 @@
+package com.example.universitymanager.domain.common.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Serializes into a buffer while a request is being timed, so the serialization phase is complete before the
+ * first byte is written and can still be reported in the {@code Server-Timing} header. Only sampled requests are
+ * timed; every other response is written straight to the output stream.
+ */
+public class TimedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedMappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        RequestTiming requestTiming = RequestTimingContext.current();
+        if (requestTiming == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        BufferedOutputMessage bufferedMessage = new BufferedOutputMessage(outputMessage.getHeaders());
+        requestTiming.enter(Phase.SERIALIZATION);
+        try {
+            super.writeInternal(object, type, bufferedMessage);
+        } finally {
+            requestTiming.exit();
+        }
+        outputMessage.getHeaders().add(RequestTimingHeaders.SERVER_TIMING, RequestTimingHeaders.format(requestTiming));
+        requestTiming.markHeaderWritten();
+        bufferedMessage.body.writeTo(outputMessage.getBody());
+    }
+
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        private BufferedOutputMessage(HttpHeaders headers) {
+            this.headers = headers;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
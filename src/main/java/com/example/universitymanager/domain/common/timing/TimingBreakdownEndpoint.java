@@ -0,0 +1,27 @@
+package com.example.universitymanager.domain.common.timing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Exposes the rolling per-endpoint phase breakdown at {@code /actuator/timings}. It only exists while request
+ * timing is enabled and, like every actuator endpoint, is served on the loopback management port.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.request-timing", name = "enabled", havingValue = "true")
+@Endpoint(id = "timings")
+@RequiredArgsConstructor
+public class TimingBreakdownEndpoint {
+
+    private final TimingBreakdownRegistry timingBreakdownRegistry;
+
+    @ReadOperation
+    public List<EndpointTimingDto> breakdown() {
+        return timingBreakdownRegistry.getBreakdown();
+    }
+}
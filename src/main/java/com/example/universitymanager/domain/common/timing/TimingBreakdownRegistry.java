@@ -0,0 +1,98 @@
+package com.example.universitymanager.domain.common.timing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the last {@code app.request-timing.window-size} sampled requests of every endpoint in a ring buffer,
+ * so the breakdown reflects current behaviour rather than an average since startup.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimingBreakdownRegistry {
+
+    private static final int TOTAL = Phase.values().length;
+
+    private final RequestTimingProperties requestTimingProperties;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    void record(String endpoint, RequestTiming requestTiming) {
+        long[] sample = new long[TOTAL + 1];
+        for (Phase phase : Phase.values()) {
+            sample[phase.ordinal()] = requestTiming.getNanos(phase);
+        }
+        sample[TOTAL] = requestTiming.getElapsedNanos();
+        windows.computeIfAbsent(endpoint, key -> new Window(requestTimingProperties.getWindowSize()))
+                .add(sample);
+    }
+
+    public List<EndpointTimingDto> getBreakdown() {
+        return windows.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparing(EndpointTimingDto::getEndpoint))
+                .collect(Collectors.toList());
+    }
+
+    private static final class Window {
+
+        private final long[][] samples;
+        private int next;
+        private int size;
+
+        private Window(int capacity) {
+            this.samples = new long[Math.max(capacity, 1)][];
+        }
+
+        private synchronized void add(long[] sample) {
+            samples[next] = sample;
+            next = (next + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+        }
+
+        private EndpointTimingDto toDto(String endpoint) {
+            long[][] copy;
+            synchronized (this) {
+                copy = Arrays.copyOf(samples, size);
+            }
+            Map<String, Double> meanMillis = new LinkedHashMap<>();
+            for (Phase phase : Phase.values()) {
+                meanMillis.put(phase.getMetricName(), mean(copy, phase.ordinal()));
+            }
+            meanMillis.put("total", mean(copy, TOTAL));
+            long[] totals = Arrays.stream(copy).mapToLong(sample -> sample[TOTAL]).sorted().toArray();
+            return EndpointTimingDto.builder()
+                    .endpoint(endpoint)
+                    .samples(copy.length)
+                    .meanMillis(meanMillis)
+                    .totalP50Millis(percentile(totals, 0.50))
+                    .totalP95Millis(percentile(totals, 0.95))
+                    .totalMaxMillis(percentile(totals, 1.0))
+                    .build();
+        }
+
+        private static double mean(long[][] samples, int index) {
+            return toMillis((long) Arrays.stream(samples).mapToLong(sample -> sample[index]).average().orElse(0));
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return toMillis(sorted[Math.max(index, 0)]);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package com.example.universitymanager.domain.course;
 
+import com.example.universitymanager.domain.common.exceptions.CourseFullException;
 import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerDto;
 import com.example.universitymanager.domain.student.Student;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.OneToMany;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinTable;
+import javax.persistence.ManyToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -30,26 +38,48 @@ public class Course {
     @Setter
     private Long id;
     private String courseName;
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     private Lecturer leadingLecturer;
-    @OneToMany(orphanRemoval = true)
+    @ManyToMany
+    @JoinTable(name = "course_students",
+            joinColumns = @JoinColumn(name = "course_id"),
+            inverseJoinColumns = @JoinColumn(name = "student_id"))
+    @BatchSize(size = 100)
     private Set<Student> students;
+    /**
+     * Seats on the course, {@code null} for no limit.
+     */
+    private Integer capacity;
+    /**
+     * Size of the roster, kept next to the capacity so a seat can be reserved with a single conditional update
+     * instead of loading the roster. See {@link CourseRepository#reserveSeat(Long)}.
+     */
+    @Column(nullable = false)
+    private int enrolledCount;
+    @Version
+    @Setter
+    private Long version;
 
     @Builder
-    public Course(Long id, String courseName, Lecturer leadingLecturer) {
+    public Course(Long id, String courseName, Lecturer leadingLecturer, Integer capacity) {
         this.id = id;
         this.courseName = courseName;
         this.leadingLecturer = leadingLecturer;
+        this.capacity = capacity;
     }
 
     public void addStudent(Student student) {
         if (students == null) {
             students = new HashSet<>();
         }
+        if (capacity != null && students.size() >= capacity && !students.contains(student)) {
+            throw new CourseFullException("Course with id " + id + " is full");
+        }
         boolean setChanged = students.add(student);
         if (!setChanged) {
             throw new IllegalArgumentException("Student already exists in the students set.");
         }
+        enrolledCount = students.size();
     }
 
     public void removeStudent(Student student) {
@@ -60,6 +90,7 @@ public class Course {
         if (!setChanged) {
             throw new IllegalArgumentException("Student does not exist in the course students set.");
         }
+        enrolledCount = students.size();
     }
 
     public Set<Student> getStudents() {
@@ -70,13 +101,24 @@ public class Course {
     }
 
     public CourseDto toDto() {
+        return toDto(leadingLecturer.toDto());
+    }
+
+    /**
+     * Builds the DTO with a lecturer DTO the caller already holds, for a course whose lecturer is an
+     * uninitialized reference.
+     */
+    public CourseDto toDto(LecturerDto leadingLecturerDto) {
         return CourseDto.builder()
                 .id(id)
                 .courseName(courseName)
-                .leadingLecturerDto(leadingLecturer.toDto())
-                .studentDtos(students.stream()
+                .capacity(capacity)
+                .enrolledCount(enrolledCount)
+                .leadingLecturerDto(leadingLecturerDto)
+                .studentDtos(getStudents().stream()
                         .map(Student::toDto)
                         .collect(Collectors.toSet()))
+                .version(version)
                 .build();
     }
 }
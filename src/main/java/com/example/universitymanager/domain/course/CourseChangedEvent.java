@@ -0,0 +1,40 @@
+package com.example.universitymanager.domain.course;
+
+import com.example.universitymanager.domain.common.events.ChangeType;
+import com.example.universitymanager.domain.student.Student;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CourseChangedEvent {
+
+    private final ChangeType changeType;
+    private final Long courseId;
+    private final Long leadingLecturerId;
+    private final Set<Long> studentIds;
+
+    public static CourseChangedEvent created(Course course) {
+        return of(ChangeType.CREATED, course);
+    }
+
+    public static CourseChangedEvent updated(Course course) {
+        return of(ChangeType.UPDATED, course);
+    }
+
+    public static CourseChangedEvent deleted(Long courseId) {
+        return new CourseChangedEvent(ChangeType.DELETED, courseId, null, Set.of());
+    }
+
+    private static CourseChangedEvent of(ChangeType changeType, Course course) {
+        Long leadingLecturerId = course.getLeadingLecturer() == null ? null : course.getLeadingLecturer().getId();
+        Set<Long> studentIds = course.getStudents() == null ? Set.of() : course.getStudents().stream()
+                .map(Student::getId)
+                .collect(Collectors.toSet());
+        return new CourseChangedEvent(changeType, course.getId(), leadingLecturerId, studentIds);
+    }
+}
@@ -4,15 +4,20 @@ import com.example.universitymanager.domain.lecturer.LecturerDto;
 import com.example.universitymanager.domain.student.StudentDto;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.ToString;
 
 import java.util.Set;
 
 @Getter
 @Builder
+@ToString
 public class CourseDto {
 
     private Long id;
     private String courseName;
+    private Integer capacity;
+    private int enrolledCount;
     private LecturerDto leadingLecturerDto;
     private Set<StudentDto> studentDtos;
+    private Long version;
 }
@@ -0,0 +1,26 @@
+package com.example.universitymanager.domain.course;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published for each enrolled or removed student by the per-row enrollment paths, which never load the roster and
+ * so cannot publish a {@link CourseChangedEvent} with the full set of student ids.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CourseEnrollmentChangedEvent {
+
+    private final Long courseId;
+    private final Long studentId;
+    private final boolean enrolled;
+
+    public static CourseEnrollmentChangedEvent enrolled(Long courseId, Long studentId) {
+        return new CourseEnrollmentChangedEvent(courseId, studentId, true);
+    }
+
+    public static CourseEnrollmentChangedEvent unenrolled(Long courseId, Long studentId) {
+        return new CourseEnrollmentChangedEvent(courseId, studentId, false);
+    }
+}
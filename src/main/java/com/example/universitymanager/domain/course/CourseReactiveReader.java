@@ -0,0 +1,104 @@
+package com.example.universitymanager.domain.course;
+
+import com.example.universitymanager.domain.common.reactive.ReactiveReads;
+import com.example.universitymanager.domain.student.StudentDto;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads courses with their lecturer and roster in one query ordered by course, so each course is assembled
+ * from consecutive rows and only one roster is held in memory at a time.
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseReactiveReader {
+
+    private static final String SELECT = "select c.id as course_id, c.course_name, c.capacity, c.enrolled_count, c.version, " +
+            "l.id as lecturer_id, l.first_name as lecturer_first_name, l.last_name as lecturer_last_name, " +
+            "l.title as lecturer_title, l.email as lecturer_email, l.version as lecturer_version, " +
+            "s.id as student_id, s.first_name as student_first_name, s.last_name as student_last_name, " +
+            "s.index_code, s.studies_start_year, s.version as student_version " +
+            "from courses c " +
+            "left join lecturers l on l.id = c.leading_lecturer_id " +
+            "left join course_students cs on cs.course_id = c.id " +
+            "left join students s on s.id = cs.student_id ";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<CourseDto> streamAll(long afterId) {
+        return databaseClient.sql(SELECT + "where c.id > :afterId order by c.id asc")
+                .filter(ReactiveReads::withFetchSize)
+                .bind("afterId", afterId)
+                .map((row, metadata) -> toCourseRow(row))
+                .all()
+                .bufferUntilChanged(RowWithStudent::getCourseId)
+                .map(CourseReactiveReader::toDto);
+    }
+
+    public Mono<CourseDto> findById(Long id) {
+        return databaseClient.sql(SELECT + "where c.id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toCourseRow(row))
+                .all()
+                .collectList()
+                .filter(rows -> !rows.isEmpty())
+                .map(CourseReactiveReader::toDto);
+    }
+
+    private static RowWithStudent toCourseRow(Row row) {
+        CourseRow courseRow = new CourseRow(
+                row.get("course_id", Long.class),
+                row.get("course_name", String.class),
+                row.get("capacity", Integer.class),
+                row.get("enrolled_count", Integer.class),
+                row.get("version", Long.class),
+                row.get("lecturer_id", Long.class),
+                row.get("lecturer_first_name", String.class),
+                row.get("lecturer_last_name", String.class),
+                row.get("lecturer_title", String.class),
+                row.get("lecturer_email", String.class),
+                row.get("lecturer_version", Long.class));
+        Long studentId = row.get("student_id", Long.class);
+        StudentDto studentDto = studentId == null ? null : new StudentDto(
+                studentId,
+                row.get("student_first_name", String.class),
+                row.get("student_last_name", String.class),
+                row.get("index_code", String.class),
+                row.get("studies_start_year", Integer.class),
+                row.get("student_version", Long.class));
+        return new RowWithStudent(courseRow, studentDto);
+    }
+
+    private static CourseDto toDto(List<RowWithStudent> rows) {
+        Set<StudentDto> studentDtos = new HashSet<>();
+        rows.forEach(row -> {
+            if (row.studentDto != null) {
+                studentDtos.add(row.studentDto);
+            }
+        });
+        return rows.get(0).courseRow.toDto(studentDtos);
+    }
+
+    private static final class RowWithStudent {
+
+        private final CourseRow courseRow;
+        private final StudentDto studentDto;
+
+        private RowWithStudent(CourseRow courseRow, StudentDto studentDto) {
+            this.courseRow = courseRow;
+            this.studentDto = studentDto;
+        }
+
+        private Long getCourseId() {
+            return courseRow.getId();
+        }
+    }
+}
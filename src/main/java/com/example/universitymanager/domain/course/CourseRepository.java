@@ -1,8 +1,96 @@
 package com.example.universitymanager.domain.course;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
+
+    String SELECT_ROW = "select new com.example.universitymanager.domain.course.CourseRow(" +
+            "c.id, c.courseName, c.capacity, c.enrolledCount, c.version, " +
+            "l.id, l.firstName, l.lastName, l.title, l.email, l.version) " +
+            "from Course c left join c.leadingLecturer l ";
+
+    /**
+     * Takes a seat if one is left. The update locks the course row until the transaction ends, so concurrent
+     * enrollments into the same course queue on that row only and can never overbook it. It also bumps the
+     * version, so a concurrent full roster update fails instead of overwriting the enrollment.
+     *
+     * @return 1 when a seat was reserved, 0 when the course is full or does not exist
+     */
+    @Modifying
+    @Query("update Course c set c.enrolledCount = c.enrolledCount + 1, c.version = c.version + 1 " +
+            "where c.id = :id and (c.capacity is null or c.enrolledCount < c.capacity)")
+    int reserveSeat(@Param("id") Long id);
+
+    /**
+     * Takes {@code count} seats at once, all or nothing. Used by waitlist promotion.
+     */
+    @Modifying
+    @Query("update Course c set c.enrolledCount = c.enrolledCount + :count, c.version = c.version + 1 " +
+            "where c.id = :id and (c.capacity is null or c.enrolledCount + :count <= c.capacity)")
+    int reserveSeats(@Param("id") Long id, @Param("count") int count);
+
+    @Query("select c.id as id, c.capacity as capacity, c.enrolledCount as enrolledCount " +
+            "from Course c where c.id in :ids")
+    List<CourseSeatsView> findSeatsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Course c set c.enrolledCount = c.enrolledCount - 1, c.version = c.version + 1 " +
+            "where c.id = :id and c.enrolledCount > 0")
+    int releaseSeat(@Param("id") Long id);
+
+    /**
+     * Gives back {@code count} seats at once. Used when several students are removed in one request.
+     */
+    @Modifying
+    @Query("update Course c set c.enrolledCount = c.enrolledCount - :count, c.version = c.version + 1 " +
+            "where c.id = :id and c.enrolledCount >= :count")
+    int releaseSeats(@Param("id") Long id, @Param("count") int count);
+
+    @Query("select case when count(s) > 0 then true else false end " +
+            "from Course c join c.students s where c.id = :courseId and s.id = :studentId")
+    boolean isEnrolled(@Param("courseId") Long courseId, @Param("studentId") Long studentId);
+
+    /**
+     * Inserts the enrollment row unless the student is already enrolled or students are waiting for a seat, without
+     * touching the course row. Seats freed while the waitlist is not empty go to its head through promotion.
+     *
+     * @return 1 when the row was inserted, 0 when the student is already enrolled, the course has a waitlist or
+     * does not exist
+     */
+    @Modifying
+    @Query(value = "insert into course_students (course_id, student_id) " +
+            "select c.id, :studentId from courses c where c.id = :courseId and not exists (" +
+            "select 1 from course_students cs where cs.course_id = :courseId and cs.student_id = :studentId) " +
+            "and not exists (select 1 from waitlist_entries w where w.course_id = :courseId)",
+            nativeQuery = true)
+    int insertEnrollmentIfOpen(@Param("courseId") Long courseId, @Param("studentId") Long studentId);
+
+    @Modifying
+    @Query(value = "delete from course_students where course_id = :courseId and student_id = :studentId",
+            nativeQuery = true)
+    int deleteEnrollment(@Param("courseId") Long courseId, @Param("studentId") Long studentId);
+
+    @Query("select c.enrolledCount from Course c where c.id = :id")
+    Integer findEnrolledCountById(@Param("id") Long id);
+
+    @Query(SELECT_ROW + "where c.id = :id")
+    Optional<CourseRow> findRowById(@Param("id") Long id);
+
+    @Query(SELECT_ROW + "where c.id > :id order by c.id asc")
+    List<CourseRow> findRowPageOrderedById(@Param("id") Long id, Pageable pageable);
+
+    @Query("select new com.example.universitymanager.domain.course.CourseStudentRow(" +
+            "c.id, s.id, s.firstName, s.lastName, s.indexCode, s.studiesStartYear, s.version) " +
+            "from Course c join c.students s where c.id in :courseIds")
+    List<CourseStudentRow> findStudentRowsOfCourses(@Param("courseIds") Collection<Long> courseIds);
 }
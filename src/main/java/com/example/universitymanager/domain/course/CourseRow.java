@@ -0,0 +1,38 @@
+package com.example.universitymanager.domain.course;
+
+import com.example.universitymanager.domain.lecturer.LecturerDto;
+import com.example.universitymanager.domain.student.StudentDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class CourseRow {
+
+    private Long id;
+    private String courseName;
+    private Integer capacity;
+    private int enrolledCount;
+    private Long version;
+    private Long lecturerId;
+    private String lecturerFirstName;
+    private String lecturerLastName;
+    private String lecturerTitle;
+    private String lecturerEmail;
+    private Long lecturerVersion;
+
+    public CourseDto toDto(Set<StudentDto> studentDtos) {
+        return CourseDto.builder()
+                .id(id)
+                .courseName(courseName)
+                .capacity(capacity)
+                .enrolledCount(enrolledCount)
+                .leadingLecturerDto(lecturerId == null ? null : new LecturerDto(
+                        lecturerId, lecturerFirstName, lecturerLastName, lecturerTitle, lecturerEmail, lecturerVersion))
+                .studentDtos(studentDtos)
+                .version(version)
+                .build();
+    }
+}
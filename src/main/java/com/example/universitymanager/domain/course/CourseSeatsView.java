@@ -0,0 +1,10 @@
+package com.example.universitymanager.domain.course;
+
+public interface CourseSeatsView {
+
+    Long getId();
+
+    Integer getCapacity();
+
+    int getEnrolledCount();
+}
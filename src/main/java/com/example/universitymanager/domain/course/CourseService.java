@@ -1,17 +1,33 @@
 package com.example.universitymanager.domain.course;
 
+import com.example.universitymanager.domain.common.cache.CacheConfig;
+import com.example.universitymanager.domain.common.exceptions.CourseFullException;
 import com.example.universitymanager.domain.common.exceptions.EntityNotFoundException;
+import com.example.universitymanager.domain.common.jfr.EnrollmentChangeEvent;
+import com.example.universitymanager.domain.common.pagination.Cursor;
+import com.example.universitymanager.domain.common.pagination.CursorPage;
+import com.example.universitymanager.domain.common.pagination.PaginationProperties;
 import com.example.universitymanager.domain.course.controller.request.CreateCourseRequest;
 import com.example.universitymanager.domain.course.controller.request.UpdateCourseRequest;
-import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerDto;
 import com.example.universitymanager.domain.lecturer.LecturerService;
 import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentDto;
 import com.example.universitymanager.domain.student.StudentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -19,57 +35,211 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CourseService {
 
+    private static final String ID_SORT = "id";
+
     private final CourseRepository courseRepo;
     private final StudentService studentService;
     private final LecturerService lecturerService;
+    private final PaginationProperties paginationProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * The lecturer is checked against its cached DTO and attached as a reference, so it is not loaded; the
+     * returned DTO embeds the cached one.
+     */
     @Transactional
-    public Course create(CreateCourseRequest createCourseRequest) {
+    public CourseDto create(CreateCourseRequest createCourseRequest) {
         if (createCourseRequest == null) {
             throw new IllegalArgumentException("CreateCourseRequest must not be null");
         }
-        Lecturer lecturer = lecturerService.getById(createCourseRequest.getLeadingLecturerId());
+        Long lecturerId = createCourseRequest.getLeadingLecturerId();
+        LecturerDto lecturerDto = lecturerService.getDtoById(lecturerId);
         Course courseForCreate = Course.builder()
                 .courseName(createCourseRequest.getCourseName())
-                .leadingLecturer(lecturer)
+                .leadingLecturer(lecturerService.getReferenceById(lecturerId))
+                .capacity(createCourseRequest.getCapacity())
                 .build();
-        createCourseRequest.getStudentsIds().stream()
-                .map(studentService::getById)
+        studentService.getAllByIds(createCourseRequest.getStudentsIds())
                 .forEach(courseForCreate::addStudent);
-        return courseRepo.save(courseForCreate);
+        Course createdCourse = courseRepo.save(courseForCreate);
+        eventPublisher.publishEvent(CourseChangedEvent.created(createdCourse));
+        return createdCourse.toDto(lecturerDto);
     }
 
-    public Course getById(Long id) {
-        return courseRepo.findById(id).orElseThrow(
+    /**
+     * Fills the cache from the primary, since a replica may not have caught up with the write that evicted it.
+     */
+    @Cacheable(cacheNames = CacheConfig.COURSES, key = "#id")
+    @Transactional
+    public CourseDto getDtoById(Long id) {
+        CourseRow courseRow = courseRepo.findRowById(id).orElseThrow(
                 () -> new EntityNotFoundException("Course with id " + id + " not found"));
+        return toDtos(List.of(courseRow)).get(0);
     }
 
-    public List<Course> getAll() {
-        return courseRepo.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<CourseDto> getPage(String cursorToken, Integer pageSize) {
+        int size = paginationProperties.resolvePageSize(pageSize);
+        Cursor cursor = Cursor.decode(cursorToken, ID_SORT);
+        List<CourseRow> courseRows = courseRepo.findRowPageOrderedById(
+                cursor == null ? 0L : cursor.getId(), PageRequest.of(0, size + 1));
+        return CursorPage.of(courseRows, size, courseRow -> Cursor.of(ID_SORT, courseRow.getId(), courseRow.getId()))
+                .mapAll(this::toDtos);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#id")
+    @Transactional
     public void deleteById(Long id) {
         if (!courseRepo.existsById(id)) {
             throw new EntityNotFoundException("Delete failed. Course with id " + id + " not found");
         }
         courseRepo.deleteById(id);
+        eventPublisher.publishEvent(CourseChangedEvent.deleted(id));
+    }
+
+    /**
+     * Inserts the enrollment row directly, without loading the roster, and takes the seat with a conditional
+     * update last. A course with a waitlist takes no direct enrollments, so freed seats go to the waiting students
+     * in order. Concurrent enrollments into one course serialize on its row, so the seat is reserved only
+     * after every other statement has run and the row stays locked just until commit; a full course rolls the
+     * inserted row back.
+     */
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseId")
+    @Transactional
+    public void enrollStudent(Long courseId, Long studentId) {
+        EnrollmentChangeEvent enrollmentChangeEvent = new EnrollmentChangeEvent();
+        enrollmentChangeEvent.begin();
+        studentService.getDtoById(studentId);
+        insertEnrollment(courseId, studentId);
+        if (courseRepo.reserveSeat(courseId) == 0) {
+            throw new CourseFullException("Course with id " + courseId + " is full");
+        }
+        eventPublisher.publishEvent(CourseEnrollmentChangedEvent.enrolled(courseId, studentId));
+        commit(enrollmentChangeEvent, courseId, 1, 0);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseId")
+    @Transactional
+    public void unenrollStudent(Long courseId, Long studentId) {
+        EnrollmentChangeEvent enrollmentChangeEvent = new EnrollmentChangeEvent();
+        enrollmentChangeEvent.begin();
+        studentService.getDtoById(studentId);
+        if (courseRepo.deleteEnrollment(courseId, studentId) == 0) {
+            throw courseRepo.existsById(courseId)
+                    ? new IllegalArgumentException("Student does not exist in the course students set.")
+                    : new EntityNotFoundException("Course with id " + courseId + " not found");
+        }
+        courseRepo.releaseSeat(courseId);
+        eventPublisher.publishEvent(CourseEnrollmentChangedEvent.unenrolled(courseId, studentId));
+        commit(enrollmentChangeEvent, courseId, 0, 1);
     }
 
+    /**
+     * Applies several enrollment changes with the same per-row statements as {@link #enrollStudent(Long, Long)}:
+     * removed rows are deleted and added rows inserted first, then the seat count is adjusted by the difference
+     * in one conditional update, which is the only statement locking the course row. The roster is never loaded.
+     */
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#courseId")
     @Transactional
-    public Course update(UpdateCourseRequest updateCourseRequest) {
+    public void updateEnrollments(Long courseId, Set<Long> addedStudentsIds, Set<Long> removedStudentsIds) {
+        Set<Long> added = addedStudentsIds == null ? Collections.emptySet() : addedStudentsIds;
+        Set<Long> removed = removedStudentsIds == null ? Collections.emptySet() : removedStudentsIds;
+        if (added.stream().anyMatch(removed::contains)) {
+            throw new IllegalArgumentException("Student cannot be added to and removed from the course at once");
+        }
+        EnrollmentChangeEvent enrollmentChangeEvent = new EnrollmentChangeEvent();
+        enrollmentChangeEvent.begin();
+        if (added.isEmpty() && removed.isEmpty() && !courseRepo.existsById(courseId)) {
+            throw new EntityNotFoundException("Course with id " + courseId + " not found");
+        }
+        for (Long studentId : removed) {
+            if (courseRepo.deleteEnrollment(courseId, studentId) == 0) {
+                throw courseRepo.existsById(courseId)
+                        ? new IllegalArgumentException("Student with id " + studentId + " does not exist in the course students set.")
+                        : new EntityNotFoundException("Course with id " + courseId + " not found");
+            }
+        }
+        if (!added.isEmpty()) {
+            studentService.getAllByIds(added);
+            added.forEach(studentId -> insertEnrollment(courseId, studentId));
+        }
+        int seatChange = added.size() - removed.size();
+        if (seatChange > 0 && courseRepo.reserveSeats(courseId, seatChange) == 0) {
+            throw new CourseFullException("Course with id " + courseId + " has fewer than " + seatChange + " free seats");
+        }
+        if (seatChange < 0) {
+            courseRepo.releaseSeats(courseId, -seatChange);
+        }
+        removed.forEach(studentId -> eventPublisher.publishEvent(CourseEnrollmentChangedEvent.unenrolled(courseId, studentId)));
+        added.forEach(studentId -> eventPublisher.publishEvent(CourseEnrollmentChangedEvent.enrolled(courseId, studentId)));
+        commit(enrollmentChangeEvent, courseId, added.size(), removed.size());
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#updateCourseRequest.id")
+    @Transactional
+    public CourseDto update(UpdateCourseRequest updateCourseRequest, Long version) {
         if (updateCourseRequest == null) {
             throw new IllegalArgumentException("UpdateCourseRequest must not be null");
         }
-        Lecturer lecturer = lecturerService.getById(updateCourseRequest.getLeadingLecturerId());
-        Set<Student> studentsByIdsFromRequest = updateCourseRequest.getStudentsIds().stream()
-                .map(studentService::getById)
-                .collect(Collectors.toSet());
+        if (version == null) {
+            throw new IllegalArgumentException("Course version must not be null");
+        }
+        if (!courseRepo.existsById(updateCourseRequest.getId())) {
+            throw new EntityNotFoundException("Update failed. Course with id " + updateCourseRequest.getId() + " not found");
+        }
+        Long lecturerId = updateCourseRequest.getLeadingLecturerId();
+        LecturerDto lecturerDto = lecturerService.getDtoById(lecturerId);
+        List<Student> studentsByIdsFromRequest = studentService.getAllByIds(updateCourseRequest.getStudentsIds());
         Course updatedCourse = Course.builder()
                 .id(updateCourseRequest.getId())
                 .courseName(updateCourseRequest.getCourseName())
-                .leadingLecturer(lecturer)
+                .leadingLecturer(lecturerService.getReferenceById(lecturerId))
+                .capacity(updateCourseRequest.getCapacity())
                 .build();
+        updatedCourse.setVersion(version);
         studentsByIdsFromRequest.forEach(updatedCourse::addStudent);
-        return courseRepo.save(updatedCourse);
+        // flushed here so the returned DTO carries the incremented version
+        Course savedCourse = courseRepo.saveAndFlush(updatedCourse);
+        eventPublisher.publishEvent(CourseChangedEvent.updated(savedCourse));
+        return savedCourse.toDto(lecturerDto);
+    }
+
+    private void insertEnrollment(Long courseId, Long studentId) {
+        if (courseRepo.insertEnrollmentIfOpen(courseId, studentId) == 0) {
+            if (!courseRepo.existsById(courseId)) {
+                throw new EntityNotFoundException("Course with id " + courseId + " not found");
+            }
+            if (courseRepo.isEnrolled(courseId, studentId)) {
+                throw new IllegalArgumentException("Student with id " + studentId + " already exists in the students set.");
+            }
+            throw new CourseFullException("Course with id " + courseId + " has students on its waitlist");
+        }
+    }
+
+    private List<CourseDto> toDtos(List<CourseRow> courseRows) {
+        if (courseRows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Set<StudentDto>> studentDtosByCourseId = new HashMap<>();
+        courseRepo.findStudentRowsOfCourses(courseRows.stream()
+                        .map(CourseRow::getId)
+                        .collect(Collectors.toList()))
+                .forEach(studentRow -> studentDtosByCourseId
+                        .computeIfAbsent(studentRow.getCourseId(), courseId -> new HashSet<>())
+                        .add(studentRow.toStudentDto()));
+        return courseRows.stream()
+                .map(courseRow -> courseRow.toDto(
+                        studentDtosByCourseId.getOrDefault(courseRow.getId(), new HashSet<>())))
+                .collect(Collectors.toList());
+    }
+
+    private void commit(EnrollmentChangeEvent enrollmentChangeEvent, Long courseId, int added, int removed) {
+        enrollmentChangeEvent.end();
+        if (enrollmentChangeEvent.shouldCommit()) {
+            enrollmentChangeEvent.courseId = courseId;
+            enrollmentChangeEvent.studentsAdded = added;
+            enrollmentChangeEvent.studentsRemoved = removed;
+            enrollmentChangeEvent.commit();
+        }
     }
 }
@@ -0,0 +1,22 @@
+package com.example.universitymanager.domain.course;
+
+import com.example.universitymanager.domain.student.StudentDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CourseStudentRow {
+
+    private Long courseId;
+    private Long studentId;
+    private String firstName;
+    private String lastName;
+    private String indexCode;
+    private int studiesStartYear;
+    private Long studentVersion;
+
+    public StudentDto toStudentDto() {
+        return new StudentDto(studentId, firstName, lastName, indexCode, studiesStartYear, studentVersion);
+    }
+}
@@ -1,21 +1,31 @@
 package com.example.universitymanager.domain.course.controller;
 
-import com.example.universitymanager.domain.course.Course;
+import com.example.universitymanager.domain.common.etag.ETags;
+import com.example.universitymanager.domain.common.pagination.CursorPage;
 import com.example.universitymanager.domain.course.CourseDto;
 import com.example.universitymanager.domain.course.CourseService;
 import com.example.universitymanager.domain.course.controller.request.CreateCourseRequest;
 import com.example.universitymanager.domain.course.controller.request.UpdateCourseRequest;
+import com.example.universitymanager.domain.course.controller.request.UpdateCourseStudentsRequest;
+import com.example.universitymanager.domain.lecturer.LecturerDto;
+import com.example.universitymanager.domain.student.StudentDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -31,19 +41,30 @@ public class CourseController {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public CourseDto createCourse(@RequestBody @Valid CreateCourseRequest createCourseRequest) {
-        return courseService.create(createCourseRequest).toDto();
+        return courseService.create(createCourseRequest);
     }
 
     @GetMapping
-    public List<CourseDto> getAllCourses() {
-        return courseService.getAll().stream()
-                .map(Course::toDto)
+    public ResponseEntity<List<CourseDto>> getAllCourses(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size,
+                                                         WebRequest webRequest) {
+        CursorPage<CourseDto> page = courseService.getPage(cursor, size);
+        List<String> itemETags = page.getItems().stream()
+                .map(CourseController::eTagOf)
                 .collect(Collectors.toList());
+        if (webRequest.checkNotModified(ETags.forCollection(itemETags, page.getNextCursor()))) {
+            return null;
+        }
+        return page.toResponseEntity();
     }
 
     @GetMapping("/{id}")
-    public CourseDto getCourseById(@PathVariable Long id) {
-        return courseService.getById(id).toDto();
+    public CourseDto getCourseById(@PathVariable Long id, WebRequest webRequest) {
+        CourseDto courseDto = courseService.getDtoById(id);
+        if (webRequest.checkNotModified(eTagOf(courseDto))) {
+            return null;
+        }
+        return courseDto;
     }
 
     @DeleteMapping("/{id}")
@@ -52,10 +73,45 @@ public class CourseController {
         courseService.deleteById(id);
     }
 
+    @PostMapping("/{id}/students/{studentId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void enrollStudent(@PathVariable Long id, @PathVariable Long studentId) {
+        courseService.enrollStudent(id, studentId);
+    }
+
+    @DeleteMapping("/{id}/students/{studentId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void unenrollStudent(@PathVariable Long id, @PathVariable Long studentId) {
+        courseService.unenrollStudent(id, studentId);
+    }
+
+    @PatchMapping("/{id}/students")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void updateEnrollments(@PathVariable Long id,
+                                  @RequestBody @Valid UpdateCourseStudentsRequest updateCourseStudentsRequest) {
+        courseService.updateEnrollments(id,
+                updateCourseStudentsRequest.getAddedStudentsIds(),
+                updateCourseStudentsRequest.getRemovedStudentsIds());
+    }
+
     @PutMapping
     @ResponseStatus(HttpStatus.OK)
-    public CourseDto updateCourse(@RequestBody @Valid UpdateCourseRequest updateCourseRequest) {
-        return courseService.update(updateCourseRequest).toDto();
+    public CourseDto updateCourse(@RequestBody @Valid UpdateCourseRequest updateCourseRequest,
+                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return courseService.update(updateCourseRequest, ETags.requireVersion(ifMatch, updateCourseRequest.getVersion()));
     }
 
+    /**
+     * The course's own version comes first, as {@link ETags#requireVersion(String, Long)} expects. The lecturer
+     * and roster versions follow because the response embeds both. Built from versions only, so it does not
+     * depend on the iteration order of the roster set.
+     */
+    private static String eTagOf(CourseDto courseDto) {
+        LecturerDto lecturerDto = courseDto.getLeadingLecturerDto();
+        long rosterVersionSum = courseDto.getStudentDtos().stream()
+                .mapToLong(StudentDto::getVersion)
+                .sum();
+        return ETags.forVersion(courseDto.getVersion(), lecturerDto == null ? null : lecturerDto.getVersion(),
+                courseDto.getStudentDtos().isEmpty() ? null : rosterVersionSum);
+    }
 }
@@ -0,0 +1,33 @@
+package com.example.universitymanager.domain.course.controller;
+
+import com.example.universitymanager.domain.common.exceptions.EntityNotFoundException;
+import com.example.universitymanager.domain.course.CourseDto;
+import com.example.universitymanager.domain.course.CourseReactiveReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("api/v1/reactive/courses")
+@RequiredArgsConstructor
+public class ReactiveCourseController {
+
+    private final CourseReactiveReader courseReactiveReader;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CourseDto> streamAllCourses(@RequestParam(defaultValue = "0") long afterId) {
+        return courseReactiveReader.streamAll(afterId);
+    }
+
+    @GetMapping(path = "/{id}")
+    public Mono<CourseDto> getCourseById(@PathVariable Long id) {
+        return courseReactiveReader.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Course with id " + id + " not found")));
+    }
+}
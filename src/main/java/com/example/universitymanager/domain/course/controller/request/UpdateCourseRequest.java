@@ -3,6 +3,7 @@ package com.example.universitymanager.domain.course.controller.request;
 import lombok.Builder;
 import lombok.Getter;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import java.util.Set;
@@ -19,5 +20,11 @@ public class UpdateCourseRequest {
     private long leadingLecturerId;
     @NotNull(message = "Students ids must not be null")
     private Set<Long> studentsIds;
+    @Min(value = 1, message = "Capacity should not be less than 1")
+    private Integer capacity;
+    /**
+     * Version the update is based on; may be sent in the {@code If-Match} header instead.
+     */
+    private Long version;
 
 }
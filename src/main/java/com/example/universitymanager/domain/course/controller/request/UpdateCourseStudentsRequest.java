@@ -0,0 +1,23 @@
+package com.example.universitymanager.domain.course.controller.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.Set;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class UpdateCourseStudentsRequest {
+
+    private Set<@NotNull(message = "Student id must not be null")
+            @Min(value = 1, message = "Student id should not be less than 1") Long> addedStudentsIds;
+    private Set<@NotNull(message = "Student id must not be null")
+            @Min(value = 1, message = "Student id should not be less than 1") Long> removedStudentsIds;
+
+}
@@ -11,10 +11,17 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 @Entity
-@Table(name = "lecturers")
+@Table(name = "lecturers", indexes = {
+        @Index(name = "idx_lecturers_last_name", columnList = "last_name"),
+        @Index(name = "idx_lecturers_first_name", columnList = "first_name"),
+        @Index(name = "idx_lecturers_email", columnList = "email")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -23,13 +30,18 @@ import javax.persistence.Table;
 public class Lecturer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lecturers_seq")
+    @SequenceGenerator(name = "lecturers_seq", sequenceName = "lecturers_seq", allocationSize = 50)
     @Setter
     private Long id;
     private String firstName;
     private String lastName;
     private String title;
     private String email;
+    @Version
+    @Setter
+    @EqualsAndHashCode.Exclude
+    private Long version;
 
 
     public LecturerDto toDto() {
@@ -39,6 +51,7 @@ public class Lecturer {
                 .lastName(lastName)
                 .title(title)
                 .email(email)
+                .version(version)
                 .build();
     }
 }
@@ -0,0 +1,27 @@
+package com.example.universitymanager.domain.lecturer;
+
+import com.example.universitymanager.domain.common.events.ChangeType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class LecturerChangedEvent {
+
+    private final ChangeType changeType;
+    private final Long lecturerId;
+    private final LecturerDto lecturer;
+
+    public static LecturerChangedEvent created(LecturerDto lecturer) {
+        return new LecturerChangedEvent(ChangeType.CREATED, lecturer.getId(), lecturer);
+    }
+
+    public static LecturerChangedEvent updated(LecturerDto lecturer) {
+        return new LecturerChangedEvent(ChangeType.UPDATED, lecturer.getId(), lecturer);
+    }
+
+    public static LecturerChangedEvent deleted(Long lecturerId) {
+        return new LecturerChangedEvent(ChangeType.DELETED, lecturerId, null);
+    }
+}
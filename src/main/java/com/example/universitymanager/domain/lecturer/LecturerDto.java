@@ -5,12 +5,14 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Builder
+@ToString
 @EqualsAndHashCode
 public class LecturerDto {
 
@@ -19,4 +21,5 @@ public class LecturerDto {
     private String lastName;
     private String title;
     private String email;
+    private Long version;
 }
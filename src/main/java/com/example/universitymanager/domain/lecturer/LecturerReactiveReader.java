@@ -0,0 +1,43 @@
+package com.example.universitymanager.domain.lecturer;
+
+import com.example.universitymanager.domain.common.reactive.ReactiveReads;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class LecturerReactiveReader {
+
+    private static final String SELECT = "select id, first_name, last_name, title, email, version from lecturers ";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<LecturerDto> streamAll(long afterId) {
+        return databaseClient.sql(SELECT + "where id > :afterId order by id asc")
+                .filter(ReactiveReads::withFetchSize)
+                .bind("afterId", afterId)
+                .map((row, metadata) -> toDto(row))
+                .all();
+    }
+
+    public Mono<LecturerDto> findById(Long id) {
+        return databaseClient.sql(SELECT + "where id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toDto(row))
+                .one();
+    }
+
+    private static LecturerDto toDto(Row row) {
+        return new LecturerDto(
+                row.get("id", Long.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("title", String.class),
+                row.get("email", String.class),
+                row.get("version", Long.class));
+    }
+}
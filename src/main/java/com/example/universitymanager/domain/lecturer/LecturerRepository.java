@@ -1,8 +1,34 @@
 package com.example.universitymanager.domain.lecturer;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 @Repository
-public interface LecturerRepository extends JpaRepository<Lecturer, Long> {
+public interface LecturerRepository extends JpaRepository<Lecturer, Long>, LecturerSearchRepository {
+
+    String SELECT_DTO = "select new com.example.universitymanager.domain.lecturer.LecturerDto(" +
+            "l.id, l.firstName, l.lastName, l.title, l.email, l.version) from Lecturer l ";
+
+    @Query(SELECT_DTO + "where l.id > :id order by l.id asc")
+    List<LecturerDto> findPageOrderedById(@Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_DTO + "where l.lastName > :lastName or (l.lastName = :lastName and l.id > :id) " +
+            "order by l.lastName asc, l.id asc")
+    List<LecturerDto> findPageOrderedByLastName(@Param("lastName") String lastName,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "order by l.id asc")
+    Stream<LecturerDto> streamAllAsDto();
 }
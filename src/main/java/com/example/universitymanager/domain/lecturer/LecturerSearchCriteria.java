@@ -0,0 +1,13 @@
+package com.example.universitymanager.domain.lecturer;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LecturerSearchCriteria {
+
+    private String firstName;
+    private String lastName;
+    private String email;
+}
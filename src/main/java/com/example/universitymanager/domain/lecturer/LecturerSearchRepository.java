@@ -0,0 +1,8 @@
+package com.example.universitymanager.domain.lecturer;
+
+import java.util.List;
+
+public interface LecturerSearchRepository {
+
+    List<LecturerDto> search(LecturerSearchCriteria criteria, long afterId, int limit);
+}
@@ -0,0 +1,53 @@
+package com.example.universitymanager.domain.lecturer;
+
+import com.example.universitymanager.domain.common.search.SearchPredicates;
+import org.springframework.util.StringUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LecturerSearchRepositoryImpl implements LecturerSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<LecturerDto> search(LecturerSearchCriteria criteria, long afterId, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LecturerDto> query = criteriaBuilder.createQuery(LecturerDto.class);
+        Root<Lecturer> lecturer = query.from(Lecturer.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.greaterThan(lecturer.<Long>get("id"), afterId));
+        if (StringUtils.hasText(criteria.getLastName())) {
+            predicates.add(SearchPredicates.startsWithIgnoringCase(
+                    criteriaBuilder, lecturer.get("lastName"), criteria.getLastName()));
+        }
+        if (StringUtils.hasText(criteria.getFirstName())) {
+            predicates.add(SearchPredicates.startsWithIgnoringCase(
+                    criteriaBuilder, lecturer.get("firstName"), criteria.getFirstName()));
+        }
+        if (StringUtils.hasText(criteria.getEmail())) {
+            predicates.add(criteriaBuilder.equal(lecturer.get("email"), criteria.getEmail().trim()));
+        }
+
+        query.select(criteriaBuilder.construct(LecturerDto.class,
+                        lecturer.get("id"),
+                        lecturer.get("firstName"),
+                        lecturer.get("lastName"),
+                        lecturer.get("title"),
+                        lecturer.get("email"),
+                        lecturer.get("version")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(criteriaBuilder.asc(lecturer.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
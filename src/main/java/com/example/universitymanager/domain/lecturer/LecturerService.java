@@ -1,17 +1,38 @@
 package com.example.universitymanager.domain.lecturer;
 
+import com.example.universitymanager.domain.common.bulk.BulkProperties;
+import com.example.universitymanager.domain.common.cache.CacheConfig;
 import com.example.universitymanager.domain.common.exceptions.EntityNotFoundException;
+import com.example.universitymanager.domain.common.pagination.Cursor;
+import com.example.universitymanager.domain.common.pagination.CursorPage;
+import com.example.universitymanager.domain.common.pagination.PaginationProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class LecturerService {
 
     private final LecturerRepository lecturerRepo;
+    private final PaginationProperties paginationProperties;
+    private final BulkProperties bulkProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
+    @Transactional
     public Lecturer create(Lecturer lecturer) {
         if (lecturer == null) {
             throw new IllegalArgumentException("Lecturer must not be null");
@@ -19,7 +40,37 @@ public class LecturerService {
         if (lecturer.getId() != null) {
             throw new IllegalArgumentException("Lecturer id should be null");
         }
-        return lecturerRepo.save(lecturer);
+        Lecturer createdLecturer = lecturerRepo.save(lecturer);
+        eventPublisher.publishEvent(LecturerChangedEvent.created(createdLecturer.toDto()));
+        return createdLecturer;
+    }
+
+    @Transactional
+    public List<Lecturer> createAll(List<Lecturer> lecturers) {
+        if (lecturers == null || lecturers.isEmpty()) {
+            throw new IllegalArgumentException("Lecturers must not be empty");
+        }
+        if (lecturers.size() > bulkProperties.getMaxItems()) {
+            throw new IllegalArgumentException("At most " + bulkProperties.getMaxItems() + " lecturers can be created at once");
+        }
+        for (int index = 0; index < lecturers.size(); index++) {
+            Lecturer lecturer = lecturers.get(index);
+            if (lecturer == null) {
+                throw new IllegalArgumentException("Lecturer at index " + index + " must not be null");
+            }
+            if (lecturer.getId() != null) {
+                throw new IllegalArgumentException("Lecturer at index " + index + " id should be null");
+            }
+        }
+        List<Lecturer> createdLecturers = new ArrayList<>(lecturers.size());
+        int flushSize = bulkProperties.getFlushSize();
+        for (int from = 0; from < lecturers.size(); from += flushSize) {
+            createdLecturers.addAll(lecturerRepo.saveAll(lecturers.subList(from, Math.min(from + flushSize, lecturers.size()))));
+            lecturerRepo.flush();
+            entityManager.clear();
+        }
+        createdLecturers.forEach(createdLecturer -> eventPublisher.publishEvent(LecturerChangedEvent.created(createdLecturer.toDto())));
+        return createdLecturers;
     }
 
     public Lecturer getById(Long id) {
@@ -27,10 +78,64 @@ public class LecturerService {
                 () -> new EntityNotFoundException("Lecturer with id " + id + " not found"));
     }
 
+    /**
+     * Fills the cache from the primary, as {@code StudentService.getDtoById} does.
+     */
+    @Cacheable(cacheNames = CacheConfig.LECTURERS, key = "#id")
+    @Transactional
+    public LecturerDto getDtoById(Long id) {
+        return getById(id).toDto();
+    }
+
+    /**
+     * Returns an uninitialized proxy for attaching the lecturer to another entity without loading it. It does not
+     * check that the lecturer exists; callers do that through the cached {@link #getDtoById(Long)} first.
+     */
+    public Lecturer getReferenceById(Long id) {
+        return lecturerRepo.getReferenceById(id);
+    }
+
+    @Transactional(readOnly = true)
     public List<Lecturer> getAll() {
         return lecturerRepo.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<LecturerDto> getPage(String cursorToken, Integer pageSize, LecturerSortField sortField) {
+        int size = paginationProperties.resolvePageSize(pageSize);
+        Cursor cursor = Cursor.decode(cursorToken, sortField.getParamName());
+        Pageable limit = PageRequest.of(0, size + 1);
+        long afterId = cursor == null ? 0L : cursor.getId();
+        List<LecturerDto> lecturers;
+        if (sortField == LecturerSortField.LAST_NAME) {
+            lecturers = lecturerRepo.findPageOrderedByLastName(cursor == null ? "" : cursor.getKey(), afterId, limit);
+        } else {
+            lecturers = lecturerRepo.findPageOrderedById(afterId, limit);
+        }
+        return CursorPage.of(lecturers, size, lecturer -> Cursor.of(
+                sortField.getParamName(), lecturer.getId(), sortField.getKeyExtractor().apply(lecturer)));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<LecturerDto> search(LecturerSearchCriteria criteria, String cursorToken, Integer pageSize) {
+        int size = paginationProperties.resolvePageSize(pageSize);
+        String sort = LecturerSortField.ID.getParamName();
+        Cursor cursor = Cursor.decode(cursorToken, sort);
+        List<LecturerDto> lecturers = lecturerRepo.search(criteria, cursor == null ? 0L : cursor.getId(), size + 1);
+        return CursorPage.of(lecturers, size, lecturer -> Cursor.of(sort, lecturer.getId(), lecturer.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<LecturerDto> rowConsumer) {
+        try (Stream<LecturerDto> lecturers = lecturerRepo.streamAllAsDto()) {
+            lecturers.forEach(rowConsumer);
+        }
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.LECTURERS, key = "#updatedLecturer.id"),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)})
+    @Transactional
     public void update(Lecturer updatedLecturer) {
         if (updatedLecturer == null) {
             throw new IllegalArgumentException("Lecturer must not be null");
@@ -38,16 +143,25 @@ public class LecturerService {
         if (updatedLecturer.getId() == null) {
             throw new IllegalArgumentException("Lecturer id must not be null");
         }
+        if (updatedLecturer.getVersion() == null) {
+            throw new IllegalArgumentException("Lecturer version must not be null");
+        }
         if (!lecturerRepo.existsById(updatedLecturer.getId())) {
             throw new EntityNotFoundException("Update failed. Lecturer with id " + updatedLecturer.getId() + " not found");
         }
-        lecturerRepo.save(updatedLecturer);
+        Lecturer savedLecturer = lecturerRepo.save(updatedLecturer);
+        eventPublisher.publishEvent(LecturerChangedEvent.updated(savedLecturer.toDto()));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.LECTURERS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)})
+    @Transactional
     public void delete(Long id) {
         if (!lecturerRepo.existsById(id)) {
             throw new EntityNotFoundException("Delete failed. Lecturer with id " + id + " not found");
         }
         lecturerRepo.deleteById(id);
+        eventPublisher.publishEvent(LecturerChangedEvent.deleted(id));
     }
 }
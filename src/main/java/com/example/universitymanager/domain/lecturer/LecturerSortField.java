@@ -0,0 +1,28 @@
+package com.example.universitymanager.domain.lecturer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor
+public enum LecturerSortField {
+
+    ID("id", LecturerDto::getId),
+    LAST_NAME("lastName", LecturerDto::getLastName);
+
+    private final String paramName;
+    private final Function<LecturerDto, Object> keyExtractor;
+
+    public static LecturerSortField fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return ID;
+        }
+        return Arrays.stream(values())
+                .filter(sortField -> sortField.paramName.equals(param))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Lecturers cannot be sorted by " + param));
+    }
+}
@@ -1,23 +1,39 @@
 package com.example.universitymanager.domain.lecturer.controller;
 
+import com.example.universitymanager.domain.common.etag.ETags;
+import com.example.universitymanager.domain.common.export.ExportColumn;
+import com.example.universitymanager.domain.common.export.ExportFormat;
+import com.example.universitymanager.domain.common.export.ExportWriter;
+import com.example.universitymanager.domain.common.pagination.CursorPage;
 import com.example.universitymanager.domain.lecturer.Lecturer;
 import com.example.universitymanager.domain.lecturer.LecturerDto;
+import com.example.universitymanager.domain.lecturer.LecturerSearchCriteria;
 import com.example.universitymanager.domain.lecturer.LecturerService;
+import com.example.universitymanager.domain.lecturer.LecturerSortField;
+import com.example.universitymanager.domain.lecturer.controller.request.BulkCreateLecturersRequest;
 import com.example.universitymanager.domain.lecturer.controller.request.CreateLecturerRequest;
 import com.example.universitymanager.domain.lecturer.controller.request.UpdateLecturerRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,41 +42,89 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LecturerController {
 
+    private static final List<ExportColumn<LecturerDto>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", LecturerDto::getId),
+            ExportColumn.of("firstName", LecturerDto::getFirstName),
+            ExportColumn.of("lastName", LecturerDto::getLastName),
+            ExportColumn.of("title", LecturerDto::getTitle),
+            ExportColumn.of("email", LecturerDto::getEmail));
+
     private final LecturerService lecturerService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(code = HttpStatus.CREATED)
     public LecturerDto createLecturer(@RequestBody @Valid CreateLecturerRequest createLecturerRequest) {
-        Lecturer lecturerToCreate = Lecturer.builder()
-                .firstName(createLecturerRequest.getFirstName())
-                .lastName(createLecturerRequest.getLastName())
-                .title(createLecturerRequest.getTitle())
-                .email(createLecturerRequest.getEmail())
-                .build();
-        return lecturerService.create(lecturerToCreate).toDto();
+        return lecturerService.create(toLecturer(createLecturerRequest)).toDto();
+    }
+
+    @PostMapping(path = "/bulk")
+    @ResponseStatus(code = HttpStatus.CREATED)
+    public List<LecturerDto> createLecturers(@RequestBody @Valid BulkCreateLecturersRequest bulkCreateLecturersRequest) {
+        List<Lecturer> lecturersToCreate = bulkCreateLecturersRequest.getLecturers().stream()
+                .map(this::toLecturer)
+                .collect(Collectors.toList());
+        return lecturerService.createAll(lecturersToCreate).stream()
+                .map(Lecturer::toDto)
+                .collect(Collectors.toList());
     }
 
     @GetMapping(path = "/{id}")
-    public LecturerDto getLecturerById(@PathVariable Long id) {
-        return lecturerService.getById(id).toDto();
+    public LecturerDto getLecturerById(@PathVariable Long id, WebRequest webRequest) {
+        LecturerDto lecturerDto = lecturerService.getDtoById(id);
+        if (webRequest.checkNotModified(ETags.forVersion(lecturerDto.getVersion()))) {
+            return null;
+        }
+        return lecturerDto;
     }
 
     @GetMapping
-    public List<LecturerDto> getAllLecturers() {
-        return lecturerService.getAll().stream()
-                .map(Lecturer::toDto)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<LecturerDto>> getAllLecturers(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size,
+                                                             @RequestParam(required = false) String sort,
+                                                             WebRequest webRequest) {
+        CursorPage<LecturerDto> page = lecturerService.getPage(cursor, size, LecturerSortField.fromParam(sort));
+        if (webRequest.checkNotModified(ETags.forCollection(page.getItems(), page.getNextCursor()))) {
+            return null;
+        }
+        return page.toResponseEntity();
+    }
+
+    @GetMapping(path = "/search")
+    public ResponseEntity<List<LecturerDto>> searchLecturers(@RequestParam(required = false) String firstName,
+                                                             @RequestParam(required = false) String lastName,
+                                                             @RequestParam(required = false) String email,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+        LecturerSearchCriteria criteria = LecturerSearchCriteria.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .build();
+        return lecturerService.search(criteria, cursor, size).toResponseEntity();
+    }
+
+    @GetMapping(path = "/export")
+    public void exportLecturers(@RequestParam(required = false) String format,
+                                HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        try (ExportWriter<LecturerDto> exportWriter =
+                     ExportWriter.open(exportFormat, "lecturers", EXPORT_COLUMNS, objectMapper, response)) {
+            lecturerService.exportAll(exportWriter);
+        }
     }
 
     @PutMapping
     @ResponseStatus(code = HttpStatus.NO_CONTENT)
-    public void updateLecturerById(@RequestBody @Valid UpdateLecturerRequest updateLecturerRequest) {
+    public void updateLecturerById(@RequestBody @Valid UpdateLecturerRequest updateLecturerRequest,
+                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Lecturer lecturerToUpdate = Lecturer.builder()
                 .id(updateLecturerRequest.getId())
                 .firstName(updateLecturerRequest.getFirstName())
                 .lastName(updateLecturerRequest.getLastName())
                 .title(updateLecturerRequest.getTitle())
                 .email(updateLecturerRequest.getEmail())
+                .version(ETags.requireVersion(ifMatch, updateLecturerRequest.getVersion()))
                 .build();
         lecturerService.update(lecturerToUpdate);
     }
@@ -70,4 +134,13 @@ public class LecturerController {
     public void deleteLecturerById(@PathVariable Long id) {
         lecturerService.delete(id);
     }
+
+    private Lecturer toLecturer(CreateLecturerRequest createLecturerRequest) {
+        return Lecturer.builder()
+                .firstName(createLecturerRequest.getFirstName())
+                .lastName(createLecturerRequest.getLastName())
+                .title(createLecturerRequest.getTitle())
+                .email(createLecturerRequest.getEmail())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.universitymanager.domain.lecturer.controller;
+
+import com.example.universitymanager.domain.common.exceptions.EntityNotFoundException;
+import com.example.universitymanager.domain.lecturer.LecturerDto;
+import com.example.universitymanager.domain.lecturer.LecturerReactiveReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("api/v1/reactive/lecturers")
+@RequiredArgsConstructor
+public class ReactiveLecturerController {
+
+    private final LecturerReactiveReader lecturerReactiveReader;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<LecturerDto> streamAllLecturers(@RequestParam(defaultValue = "0") long afterId) {
+        return lecturerReactiveReader.streamAll(afterId);
+    }
+
+    @GetMapping(path = "/{id}")
+    public Mono<LecturerDto> getLecturerById(@PathVariable Long id) {
+        return lecturerReactiveReader.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Lecturer with id " + id + " not found")));
+    }
+}
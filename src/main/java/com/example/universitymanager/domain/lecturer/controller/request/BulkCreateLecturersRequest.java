@@ -0,0 +1,26 @@
+package com.example.universitymanager.domain.lecturer.controller.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+public class BulkCreateLecturersRequest {
+
+    @NotEmpty(message = "Lecturers must not be empty")
+    @Valid
+    private final List<@NotNull(message = "Lecturer must not be null") CreateLecturerRequest> lecturers;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public BulkCreateLecturersRequest(List<CreateLecturerRequest> lecturers) {
+        this.lecturers = lecturers;
+    }
+
+    @JsonValue
+    public List<CreateLecturerRequest> getLecturers() {
+        return lecturers;
+    }
+}
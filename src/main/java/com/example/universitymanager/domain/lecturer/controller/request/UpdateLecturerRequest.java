@@ -25,4 +25,8 @@ public class UpdateLecturerRequest {
     @NotBlank(message = "Email name cannot be empty")
     @Email(message = "Email should be valid")
     private String email;
+    /**
+     * Version the update is based on; may be sent in the {@code If-Match} header instead.
+     */
+    private Long version;
 }
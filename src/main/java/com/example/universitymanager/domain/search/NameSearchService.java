@@ -0,0 +1,80 @@
+package com.example.universitymanager.domain.search;
+
+import com.example.universitymanager.domain.common.events.ChangeType;
+import com.example.universitymanager.domain.lecturer.LecturerChangedEvent;
+import com.example.universitymanager.domain.lecturer.LecturerService;
+import com.example.universitymanager.domain.student.StudentChangedEvent;
+import com.example.universitymanager.domain.student.StudentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class NameSearchService {
+
+    private final StudentService studentService;
+    private final LecturerService lecturerService;
+    private final SearchProperties searchProperties;
+    private final TrigramIndex index = new TrigramIndex();
+    private final Object buildLock = new Object();
+    private List<Runnable> changesDuringBuild = new ArrayList<>();
+
+    /**
+     * Changes committed while the index is being built are held back and replayed afterwards, so a row exported
+     * before it changed cannot overwrite the newer version.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        studentService.exportAll(student -> index.put(SearchDocument.of(student)));
+        lecturerService.exportAll(lecturer -> index.put(SearchDocument.of(lecturer)));
+        synchronized (buildLock) {
+            changesDuringBuild.forEach(Runnable::run);
+            changesDuringBuild = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            apply(() -> index.remove(PersonType.STUDENT, event.getStudentId()));
+        } else {
+            apply(() -> index.put(SearchDocument.of(event.getStudent())));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLecturerChanged(LecturerChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            apply(() -> index.remove(PersonType.LECTURER, event.getLecturerId()));
+        } else {
+            apply(() -> index.put(SearchDocument.of(event.getLecturer())));
+        }
+    }
+
+    public List<SearchHitDto> search(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        return index.search(query, searchProperties.resolveLimit(limit), searchProperties.getMinScore());
+    }
+
+    /**
+     * Runs under the lock even after the build, so changes reach the index in the order their events arrived
+     * and none can slip in between the replay and the end of the build.
+     */
+    private void apply(Runnable change) {
+        synchronized (buildLock) {
+            if (changesDuringBuild != null) {
+                changesDuringBuild.add(change);
+                return;
+            }
+            change.run();
+        }
+    }
+}
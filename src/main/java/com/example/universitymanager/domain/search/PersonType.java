@@ -0,0 +1,6 @@
+package com.example.universitymanager.domain.search;
+
+public enum PersonType {
+    STUDENT,
+    LECTURER
+}
@@ -0,0 +1,39 @@
+package com.example.universitymanager.domain.search;
+
+import com.example.universitymanager.domain.lecturer.LecturerDto;
+import com.example.universitymanager.domain.student.StudentDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchDocument {
+
+    private final PersonType type;
+    private final Long id;
+    private final String firstName;
+    private final String lastName;
+    private final String identifier;
+
+    public static SearchDocument of(StudentDto student) {
+        return new SearchDocument(PersonType.STUDENT, student.getId(),
+                student.getFirstName(), student.getLastName(), student.getIndexCode());
+    }
+
+    public static SearchDocument of(LecturerDto lecturer) {
+        return new SearchDocument(PersonType.LECTURER, lecturer.getId(),
+                lecturer.getFirstName(), lecturer.getLastName(), lecturer.getEmail());
+    }
+
+    public SearchHitDto toHit(double score) {
+        return SearchHitDto.builder()
+                .type(type)
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .identifier(identifier)
+                .score(score)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.universitymanager.domain.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class SearchHitDto {
+
+    private PersonType type;
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String identifier;
+    private double score;
+}
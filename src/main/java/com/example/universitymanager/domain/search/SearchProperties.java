@@ -0,0 +1,27 @@
+package com.example.universitymanager.domain.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.search")
+@Getter
+@Setter
+public class SearchProperties {
+
+    private int defaultLimit = 10;
+    private int maxLimit = 100;
+    private double minScore = 0.2;
+
+    public int resolveLimit(Integer requestedLimit) {
+        if (requestedLimit == null) {
+            return defaultLimit;
+        }
+        if (requestedLimit < 1) {
+            throw new IllegalArgumentException("Limit should not be less than 1");
+        }
+        return Math.min(requestedLimit, maxLimit);
+    }
+}
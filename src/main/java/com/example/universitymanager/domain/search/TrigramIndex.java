@@ -0,0 +1,222 @@
+package com.example.universitymanager.domain.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from trigram to the slots of the documents containing it. Documents are ranked by the
+ * Jaccard similarity of their trigram set and the query's. Removed documents only free their slot; stale
+ * postings are skipped while searching and dropped when the index compacts itself.
+ */
+public class TrigramIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final Comparator<ScoredSlot> BY_SCORE = Comparator.comparingDouble(ScoredSlot::getScore);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTrigram = new HashMap<>();
+    private final Map<PersonType, Map<Long, Integer>> slotsByType = new EnumMap<>(PersonType.class);
+    private SearchDocument[] documents = new SearchDocument[INITIAL_CAPACITY];
+    private int[] trigramCounts = new int[INITIAL_CAPACITY];
+    private int slotCount;
+    private int liveCount;
+
+    public void put(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(document.getType(), document.getId());
+            add(document);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(PersonType type, Long id) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(type, id);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SearchHitDto> search(String query, int limit, double minScore) {
+        Set<String> queryTrigrams = Trigrams.of(query);
+        if (queryTrigrams.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            List<Postings> matchingPostings = new ArrayList<>(queryTrigrams.size());
+            int postingCount = 0;
+            for (String trigram : queryTrigrams) {
+                Postings postings = postingsByTrigram.get(trigram);
+                if (postings != null) {
+                    matchingPostings.add(postings);
+                    postingCount += postings.size;
+                }
+            }
+            // sized by the matching postings rather than the whole index, so a query allocates for its candidates only
+            SlotCounts commonCounts = new SlotCounts(postingCount);
+            for (Postings postings : matchingPostings) {
+                for (int index = 0; index < postings.size; index++) {
+                    int slot = postings.slots[index];
+                    if (documents[slot] != null) {
+                        commonCounts.increment(slot);
+                    }
+                }
+            }
+
+            PriorityQueue<ScoredSlot> topHits = new PriorityQueue<>(limit + 1, BY_SCORE);
+            for (int bucket = 0; bucket < commonCounts.slots.length; bucket++) {
+                int slot = commonCounts.slots[bucket];
+                if (slot == SlotCounts.FREE) {
+                    continue;
+                }
+                int common = commonCounts.counts[bucket];
+                double score = (double) common / (queryTrigrams.size() + trigramCounts[slot] - common);
+                if (score < minScore) {
+                    continue;
+                }
+                if (topHits.size() < limit) {
+                    topHits.add(new ScoredSlot(slot, score));
+                } else if (score > topHits.peek().getScore()) {
+                    topHits.poll();
+                    topHits.add(new ScoredSlot(slot, score));
+                }
+            }
+
+            List<SearchHitDto> hits = new ArrayList<>(topHits.size());
+            while (!topHits.isEmpty()) {
+                ScoredSlot scoredSlot = topHits.poll();
+                hits.add(documents[scoredSlot.getSlot()].toHit(scoredSlot.getScore()));
+            }
+            Collections.reverse(hits);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(SearchDocument document) {
+        if (slotCount == documents.length) {
+            documents = Arrays.copyOf(documents, slotCount * 2);
+            trigramCounts = Arrays.copyOf(trigramCounts, slotCount * 2);
+        }
+        int slot = slotCount++;
+        Set<String> trigrams = Trigrams.of(document.getFirstName(), document.getLastName(), document.getIdentifier());
+        for (String trigram : trigrams) {
+            postingsByTrigram.computeIfAbsent(trigram, key -> new Postings()).add(slot);
+        }
+        documents[slot] = document;
+        trigramCounts[slot] = trigrams.size();
+        slotsByType.computeIfAbsent(document.getType(), type -> new HashMap<>()).put(document.getId(), slot);
+        liveCount++;
+    }
+
+    private void removeSlot(PersonType type, Long id) {
+        Map<Long, Integer> slotsById = slotsByType.get(type);
+        Integer slot = slotsById == null ? null : slotsById.remove(id);
+        if (slot != null) {
+            documents[slot] = null;
+            liveCount--;
+        }
+    }
+
+    private void compactIfSparse() {
+        if (slotCount < INITIAL_CAPACITY || liveCount * 2 > slotCount) {
+            return;
+        }
+        SearchDocument[] liveDocuments = Arrays.stream(documents, 0, slotCount)
+                .filter(document -> document != null)
+                .toArray(SearchDocument[]::new);
+        postingsByTrigram.clear();
+        slotsByType.clear();
+        documents = new SearchDocument[Math.max(INITIAL_CAPACITY, liveDocuments.length * 2)];
+        trigramCounts = new int[documents.length];
+        slotCount = 0;
+        liveCount = 0;
+        for (SearchDocument document : liveDocuments) {
+            add(document);
+        }
+    }
+
+    private static final class Postings {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+
+    /**
+     * Counts per slot in an open-addressing table of primitive ints, so counting a posting neither boxes nor
+     * allocates. Kept at most half full.
+     */
+    private static final class SlotCounts {
+
+        private static final int FREE = -1;
+
+        private final int[] slots;
+        private final int[] counts;
+        private final int mask;
+
+        private SlotCounts(int expectedSlots) {
+            int capacity = Integer.highestOneBit(Math.max(4, expectedSlots * 2 - 1)) << 1;
+            slots = new int[capacity];
+            counts = new int[capacity];
+            mask = capacity - 1;
+            Arrays.fill(slots, FREE);
+        }
+
+        private void increment(int slot) {
+            int hash = slot * 0x9E3779B9;
+            int bucket = (hash ^ hash >>> 16) & mask;
+            while (slots[bucket] != slot) {
+                if (slots[bucket] == FREE) {
+                    slots[bucket] = slot;
+                    break;
+                }
+                bucket = (bucket + 1) & mask;
+            }
+            counts[bucket]++;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class ScoredSlot {
+
+        private final int slot;
+        private final double score;
+    }
+}
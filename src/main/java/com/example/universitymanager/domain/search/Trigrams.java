@@ -0,0 +1,42 @@
+package com.example.universitymanager.domain.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+final class Trigrams {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORD_SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private Trigrams() {
+    }
+
+    /**
+     * Splits the values into words and returns the distinct trigrams of each word padded with two leading
+     * spaces and one trailing space, the same way pg_trgm does, so short words and word starts weigh in.
+     */
+    static Set<String> of(String... values) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            String normalized = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD))
+                    .replaceAll("")
+                    .toLowerCase(Locale.ROOT);
+            for (String word : WORD_SEPARATORS.split(normalized)) {
+                if (word.isEmpty()) {
+                    continue;
+                }
+                String padded = "  " + word + " ";
+                for (int start = 0; start + 3 <= padded.length(); start++) {
+                    trigrams.add(padded.substring(start, start + 3));
+                }
+            }
+        }
+        return trigrams;
+    }
+}
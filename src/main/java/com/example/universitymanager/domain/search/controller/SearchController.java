@@ -0,0 +1,25 @@
+package com.example.universitymanager.domain.search.controller;
+
+import com.example.universitymanager.domain.search.NameSearchService;
+import com.example.universitymanager.domain.search.SearchHitDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final NameSearchService nameSearchService;
+
+    @GetMapping
+    public List<SearchHitDto> search(@RequestParam("q") String query,
+                                     @RequestParam(required = false) Integer limit) {
+        return nameSearchService.search(query, limit);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.universitymanager.domain.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CohortSizeDto {
+
+    private int studiesStartYear;
+    private Long studentCount;
+}
@@ -0,0 +1,17 @@
+package com.example.universitymanager.domain.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CourseEnrollmentCountDto {
+
+    private Long courseId;
+    private String courseName;
+    private Long studentCount;
+}
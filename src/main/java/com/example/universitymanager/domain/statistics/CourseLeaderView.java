@@ -0,0 +1,8 @@
+package com.example.universitymanager.domain.statistics;
+
+public interface CourseLeaderView {
+
+    Long getCourseId();
+
+    Long getLecturerId();
+}
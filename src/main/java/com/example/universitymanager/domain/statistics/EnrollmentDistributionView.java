@@ -0,0 +1,8 @@
+package com.example.universitymanager.domain.statistics;
+
+public interface EnrollmentDistributionView {
+
+    Integer getEnrolledCourses();
+
+    Long getStudentCount();
+}
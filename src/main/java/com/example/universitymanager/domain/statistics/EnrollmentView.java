@@ -0,0 +1,8 @@
+package com.example.universitymanager.domain.statistics;
+
+public interface EnrollmentView {
+
+    Long getCourseId();
+
+    Long getStudentId();
+}
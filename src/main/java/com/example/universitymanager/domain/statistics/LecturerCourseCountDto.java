@@ -0,0 +1,18 @@
+package com.example.universitymanager.domain.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LecturerCourseCountDto {
+
+    private Long lecturerId;
+    private String firstName;
+    private String lastName;
+    private Long courseCount;
+}
@@ -0,0 +1,55 @@
+package com.example.universitymanager.domain.statistics;
+
+import com.example.universitymanager.domain.course.Course;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface StatisticsRepository extends Repository<Course, Long> {
+
+    @Query("select new com.example.universitymanager.domain.statistics.CourseEnrollmentCountDto(" +
+            "c.id, c.courseName, count(s.id)) " +
+            "from Course c left join c.students s " +
+            "group by c.id, c.courseName order by c.id asc")
+    List<CourseEnrollmentCountDto> countStudentsPerCourse();
+
+    @Query("select new com.example.universitymanager.domain.statistics.LecturerCourseCountDto(" +
+            "l.id, l.firstName, l.lastName, count(c.id)) " +
+            "from Lecturer l left join Course c on c.leadingLecturer = l " +
+            "group by l.id, l.firstName, l.lastName order by l.id asc")
+    List<LecturerCourseCountDto> countCoursesPerLecturer();
+
+    @Query("select new com.example.universitymanager.domain.statistics.CohortSizeDto(" +
+            "s.studiesStartYear, count(s.id)) " +
+            "from Student s group by s.studiesStartYear order by s.studiesStartYear asc")
+    List<CohortSizeDto> countStudentsPerCohort();
+
+    @Query(value = "select enrollments.enrolled_courses as \"enrolledCourses\", count(*) as \"studentCount\" " +
+            "from (select s.id, count(cs.course_id) as enrolled_courses " +
+            "from students s left join course_students cs on cs.student_id = s.id group by s.id) enrollments " +
+            "group by enrollments.enrolled_courses order by enrollments.enrolled_courses asc",
+            nativeQuery = true)
+    List<EnrollmentDistributionView> countStudentsPerEnrolledCourses();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select l.id from Lecturer l")
+    Stream<Long> streamLecturerIds();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select s.id as studentId, s.studiesStartYear as studiesStartYear from Student s")
+    Stream<StudentCohortView> streamStudentCohorts();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select c.id as courseId, s.id as studentId from Course c join c.students s")
+    Stream<EnrollmentView> streamEnrollments();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select c.id as courseId, l.id as lecturerId from Course c left join c.leadingLecturer l")
+    Stream<CourseLeaderView> streamCourseLeaders();
+}
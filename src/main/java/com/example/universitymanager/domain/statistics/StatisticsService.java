@@ -0,0 +1,67 @@
+package com.example.universitymanager.domain.statistics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatisticsService {
+
+    private final StatisticsRepository statisticsRepo;
+
+    public List<CourseEnrollmentCountDto> getStudentsPerCourse() {
+        return statisticsRepo.countStudentsPerCourse();
+    }
+
+    public List<LecturerCourseCountDto> getCoursesPerLecturer() {
+        return statisticsRepo.countCoursesPerLecturer();
+    }
+
+    public List<CohortSizeDto> getStudentsPerCohort() {
+        return statisticsRepo.countStudentsPerCohort();
+    }
+
+    public List<EnrollmentDistributionDto> getEnrollmentDistribution() {
+        return statisticsRepo.countStudentsPerEnrolledCourses().stream()
+                .map(view -> new EnrollmentDistributionDto(view.getEnrolledCourses(), view.getStudentCount()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads every table from one consistent view, so an enrollment can never refer to a course or student the
+     * other queries did not see.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public StatisticsSnapshot loadSnapshot() {
+        StatisticsSnapshot snapshot = new StatisticsSnapshot(Instant.now());
+        try (Stream<Long> lecturerIds = statisticsRepo.streamLecturerIds()) {
+            lecturerIds.forEach(snapshot::putLecturer);
+        }
+        try (Stream<StudentCohortView> students = statisticsRepo.streamStudentCohorts()) {
+            students.forEach(student -> snapshot.putStudent(student.getStudentId(), student.getStudiesStartYear()));
+        }
+        Map<Long, Set<Long>> studentIdsByCourseId = new HashMap<>();
+        try (Stream<EnrollmentView> enrollments = statisticsRepo.streamEnrollments()) {
+            enrollments.forEach(enrollment -> studentIdsByCourseId
+                    .computeIfAbsent(enrollment.getCourseId(), courseId -> new HashSet<>())
+                    .add(enrollment.getStudentId()));
+        }
+        try (Stream<CourseLeaderView> courses = statisticsRepo.streamCourseLeaders()) {
+            courses.forEach(course -> snapshot.putCourse(course.getCourseId(), course.getLecturerId(),
+                    studentIdsByCourseId.getOrDefault(course.getCourseId(), Set.of())));
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.universitymanager.domain.statistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory enrollment and cohort counters. Mutations are expected to come from a single writer at a time;
+ * reads never lock and see each counter as of the moment it is summed.
+ */
+public class StatisticsSnapshot {
+
+    private final Map<Long, CourseEntry> courses = new ConcurrentHashMap<>();
+    private final Map<Long, StudentEntry> students = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> coursesPerLecturer = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> studentsPerCohort = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> studentsPerEnrolledCourses = new ConcurrentHashMap<>();
+    @Getter
+    private final Instant reconciledAt;
+
+    public StatisticsSnapshot(Instant reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+
+    public void putStudent(Long studentId, int studiesStartYear) {
+        StudentEntry student = students.get(studentId);
+        if (student == null) {
+            students.put(studentId, new StudentEntry(studiesStartYear));
+            increment(studentsPerCohort, studiesStartYear);
+            increment(studentsPerEnrolledCourses, 0);
+        } else if (student.studiesStartYear != studiesStartYear) {
+            decrement(studentsPerCohort, student.studiesStartYear);
+            increment(studentsPerCohort, studiesStartYear);
+            student.studiesStartYear = studiesStartYear;
+        }
+    }
+
+    public void removeStudent(Long studentId) {
+        StudentEntry student = students.remove(studentId);
+        if (student != null) {
+            decrement(studentsPerCohort, student.studiesStartYear);
+            decrement(studentsPerEnrolledCourses, student.enrolledCourses);
+        }
+    }
+
+    public void putLecturer(Long lecturerId) {
+        coursesPerLecturer.computeIfAbsent(lecturerId, id -> new LongAdder());
+    }
+
+    public void removeLecturer(Long lecturerId) {
+        coursesPerLecturer.remove(lecturerId);
+    }
+
+    public void putCourse(Long courseId, Long leadingLecturerId, Set<Long> studentIds) {
+        Set<Long> courseStudentIds = ConcurrentHashMap.newKeySet();
+        courseStudentIds.addAll(studentIds);
+        CourseEntry course = new CourseEntry(leadingLecturerId, courseStudentIds);
+        CourseEntry previousCourse = courses.put(courseId, course);
+        Set<Long> previousStudentIds = previousCourse == null ? Set.of() : previousCourse.studentIds;
+        if (previousCourse != null && previousCourse.leadingLecturerId != null) {
+            coursesPerLecturer.computeIfAbsent(previousCourse.leadingLecturerId, id -> new LongAdder()).decrement();
+        }
+        if (leadingLecturerId != null) {
+            coursesPerLecturer.computeIfAbsent(leadingLecturerId, id -> new LongAdder()).increment();
+        }
+        for (Long studentId : previousStudentIds) {
+            if (!course.studentIds.contains(studentId)) {
+                changeEnrolledCourses(studentId, -1);
+            }
+        }
+        for (Long studentId : course.studentIds) {
+            if (!previousStudentIds.contains(studentId)) {
+                changeEnrolledCourses(studentId, 1);
+            }
+        }
+    }
+
+    public void enroll(Long courseId, Long studentId) {
+        CourseEntry course = courses.get(courseId);
+        if (course != null && course.studentIds.add(studentId)) {
+            changeEnrolledCourses(studentId, 1);
+        }
+    }
+
+    public void unenroll(Long courseId, Long studentId) {
+        CourseEntry course = courses.get(courseId);
+        if (course != null && course.studentIds.remove(studentId)) {
+            changeEnrolledCourses(studentId, -1);
+        }
+    }
+
+    public void removeCourse(Long courseId) {
+        CourseEntry course = courses.remove(courseId);
+        if (course == null) {
+            return;
+        }
+        if (course.leadingLecturerId != null) {
+            coursesPerLecturer.computeIfAbsent(course.leadingLecturerId, id -> new LongAdder()).decrement();
+        }
+        course.studentIds.forEach(studentId -> changeEnrolledCourses(studentId, -1));
+    }
+
+    public StatisticsSnapshotDto toDto() {
+        Map<Long, Integer> studentsPerCourse = new TreeMap<>();
+        courses.forEach((courseId, course) -> studentsPerCourse.put(courseId, course.studentIds.size()));
+        return StatisticsSnapshotDto.builder()
+                .studentsPerCourse(studentsPerCourse)
+                .coursesPerLecturer(sums(coursesPerLecturer))
+                .studentsPerCohort(sums(studentsPerCohort))
+                .enrollmentDistribution(sums(studentsPerEnrolledCourses))
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    private void changeEnrolledCourses(Long studentId, int delta) {
+        StudentEntry student = students.get(studentId);
+        if (student == null) {
+            return;
+        }
+        decrement(studentsPerEnrolledCourses, student.enrolledCourses);
+        student.enrolledCourses += delta;
+        increment(studentsPerEnrolledCourses, student.enrolledCourses);
+    }
+
+    private static <K> void increment(Map<K, LongAdder> counters, K key) {
+        counters.computeIfAbsent(key, id -> new LongAdder()).increment();
+    }
+
+    private static <K> void decrement(Map<K, LongAdder> counters, K key) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            return;
+        }
+        counter.decrement();
+        if (counter.sum() <= 0) {
+            counters.remove(key);
+        }
+    }
+
+    private static <K extends Comparable<K>> Map<K, Long> sums(Map<K, LongAdder> counters) {
+        Map<K, Long> sums = new TreeMap<>();
+        counters.forEach((key, counter) -> sums.put(key, counter.sum()));
+        return sums;
+    }
+
+    @RequiredArgsConstructor
+    private static final class CourseEntry {
+
+        private final Long leadingLecturerId;
+        private final Set<Long> studentIds;
+    }
+
+    private static final class StudentEntry {
+
+        private int studiesStartYear;
+        private int enrolledCourses;
+
+        private StudentEntry(int studiesStartYear) {
+            this.studiesStartYear = studiesStartYear;
+        }
+    }
+}
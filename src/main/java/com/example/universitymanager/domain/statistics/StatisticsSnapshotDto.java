@@ -0,0 +1,22 @@
+package com.example.universitymanager.domain.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsSnapshotDto {
+
+    private Map<Long, Integer> studentsPerCourse;
+    private Map<Long, Long> coursesPerLecturer;
+    private Map<Integer, Long> studentsPerCohort;
+    private Map<Integer, Long> enrollmentDistribution;
+    private Instant reconciledAt;
+}
@@ -0,0 +1,107 @@
+package com.example.universitymanager.domain.statistics;
+
+import com.example.universitymanager.domain.common.events.ChangeType;
+import com.example.universitymanager.domain.course.CourseChangedEvent;
+import com.example.universitymanager.domain.course.CourseEnrollmentChangedEvent;
+import com.example.universitymanager.domain.lecturer.LecturerChangedEvent;
+import com.example.universitymanager.domain.student.StudentChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Serves statistics without querying the database. The snapshot is seeded on startup, updated from
+ * committed change events and periodically replaced by a fresh one to correct any drift.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatisticsSnapshotService {
+
+    private final StatisticsService statisticsService;
+    private final Object writeLock = new Object();
+    private volatile StatisticsSnapshot snapshot = new StatisticsSnapshot(Instant.EPOCH);
+    private List<Consumer<StatisticsSnapshot>> changesDuringReconcile;
+
+    public StatisticsSnapshotDto getSnapshot() {
+        return snapshot.toDto();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.statistics.reconcile-interval:PT5M}",
+            initialDelayString = "${app.statistics.reconcile-interval:PT5M}")
+    public synchronized void reconcile() {
+        synchronized (writeLock) {
+            changesDuringReconcile = new ArrayList<>();
+        }
+        try {
+            StatisticsSnapshot reconciledSnapshot = statisticsService.loadSnapshot();
+            synchronized (writeLock) {
+                // the load may have missed changes committed while it ran; every change is idempotent, so replaying
+                // one the load already saw is harmless
+                changesDuringReconcile.forEach(change -> change.accept(reconciledSnapshot));
+                snapshot = reconciledSnapshot;
+            }
+        } finally {
+            synchronized (writeLock) {
+                changesDuringReconcile = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            apply(target -> target.removeStudent(event.getStudentId()));
+        } else {
+            apply(target -> target.putStudent(event.getStudentId(), event.getStudent().getStudiesStartYear()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLecturerChanged(LecturerChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            apply(target -> target.removeLecturer(event.getLecturerId()));
+        } else {
+            apply(target -> target.putLecturer(event.getLecturerId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            apply(target -> target.removeCourse(event.getCourseId()));
+        } else {
+            apply(target -> target.putCourse(event.getCourseId(), event.getLeadingLecturerId(), event.getStudentIds()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseEnrollmentChanged(CourseEnrollmentChangedEvent event) {
+        if (event.isEnrolled()) {
+            apply(target -> target.enroll(event.getCourseId(), event.getStudentId()));
+        } else {
+            apply(target -> target.unenroll(event.getCourseId(), event.getStudentId()));
+        }
+    }
+
+    private void apply(Consumer<StatisticsSnapshot> change) {
+        synchronized (writeLock) {
+            change.accept(snapshot);
+            if (changesDuringReconcile != null) {
+                changesDuringReconcile.add(change);
+            }
+        }
+    }
+}
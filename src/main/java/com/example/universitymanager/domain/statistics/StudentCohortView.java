@@ -0,0 +1,8 @@
+package com.example.universitymanager.domain.statistics;
+
+public interface StudentCohortView {
+
+    Long getStudentId();
+
+    int getStudiesStartYear();
+}
@@ -0,0 +1,49 @@
+package com.example.universitymanager.domain.statistics.controller;
+
+import com.example.universitymanager.domain.statistics.CohortSizeDto;
+import com.example.universitymanager.domain.statistics.CourseEnrollmentCountDto;
+import com.example.universitymanager.domain.statistics.EnrollmentDistributionDto;
+import com.example.universitymanager.domain.statistics.LecturerCourseCountDto;
+import com.example.universitymanager.domain.statistics.StatisticsService;
+import com.example.universitymanager.domain.statistics.StatisticsSnapshotDto;
+import com.example.universitymanager.domain.statistics.StatisticsSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+    private final StatisticsSnapshotService statisticsSnapshotService;
+
+    @GetMapping(path = "/courses")
+    public List<CourseEnrollmentCountDto> getStudentsPerCourse() {
+        return statisticsService.getStudentsPerCourse();
+    }
+
+    @GetMapping(path = "/lecturers")
+    public List<LecturerCourseCountDto> getCoursesPerLecturer() {
+        return statisticsService.getCoursesPerLecturer();
+    }
+
+    @GetMapping(path = "/cohorts")
+    public List<CohortSizeDto> getStudentsPerCohort() {
+        return statisticsService.getStudentsPerCohort();
+    }
+
+    @GetMapping(path = "/enrollment-distribution")
+    public List<EnrollmentDistributionDto> getEnrollmentDistribution() {
+        return statisticsService.getEnrollmentDistribution();
+    }
+
+    @GetMapping(path = "/snapshot")
+    public StatisticsSnapshotDto getSnapshot() {
+        return statisticsSnapshotService.getSnapshot();
+    }
+}
@@ -5,15 +5,24 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 @Entity
-@Table(name = "students")
+@Table(name = "students", indexes = {
+        @Index(name = "idx_students_last_name", columnList = "last_name"),
+        @Index(name = "idx_students_first_name", columnList = "first_name"),
+        @Index(name = "idx_students_index_code", columnList = "index_code"),
+        @Index(name = "idx_students_studies_start_year", columnList = "studies_start_year")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -22,12 +31,17 @@ import javax.persistence.Table;
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     private Long id;
     private String firstName;
     private String lastName;
     private String indexCode;
     private int studiesStartYear;
+    @Version
+    @Setter
+    @EqualsAndHashCode.Exclude
+    private Long version;
 
 
     public StudentDto toDto() {
@@ -37,6 +51,7 @@ public class Student {
                 .lastName(this.lastName)
                 .indexCode(this.indexCode)
                 .studiesStartYear(this.studiesStartYear)
+                .version(this.version)
                 .build();
     }
 }
@@ -0,0 +1,27 @@
+package com.example.universitymanager.domain.student;
+
+import com.example.universitymanager.domain.common.events.ChangeType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class StudentChangedEvent {
+
+    private final ChangeType changeType;
+    private final Long studentId;
+    private final StudentDto student;
+
+    public static StudentChangedEvent created(StudentDto student) {
+        return new StudentChangedEvent(ChangeType.CREATED, student.getId(), student);
+    }
+
+    public static StudentChangedEvent updated(StudentDto student) {
+        return new StudentChangedEvent(ChangeType.UPDATED, student.getId(), student);
+    }
+
+    public static StudentChangedEvent deleted(Long studentId) {
+        return new StudentChangedEvent(ChangeType.DELETED, studentId, null);
+    }
+}
@@ -5,11 +5,13 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@ToString
 @EqualsAndHashCode
 public class StudentDto {
 
@@ -18,4 +20,5 @@ public class StudentDto {
     private String lastName;
     private String indexCode;
     private int studiesStartYear;
+    private Long version;
 }
@@ -0,0 +1,43 @@
+package com.example.universitymanager.domain.student;
+
+import com.example.universitymanager.domain.common.reactive.ReactiveReads;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class StudentReactiveReader {
+
+    private static final String SELECT = "select id, first_name, last_name, index_code, studies_start_year, version from students ";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<StudentDto> streamAll(long afterId) {
+        return databaseClient.sql(SELECT + "where id > :afterId order by id asc")
+                .filter(ReactiveReads::withFetchSize)
+                .bind("afterId", afterId)
+                .map((row, metadata) -> toDto(row))
+                .all();
+    }
+
+    public Mono<StudentDto> findById(Long id) {
+        return databaseClient.sql(SELECT + "where id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toDto(row))
+                .one();
+    }
+
+    private static StudentDto toDto(Row row) {
+        return new StudentDto(
+                row.get("id", Long.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("index_code", String.class),
+                row.get("studies_start_year", Integer.class),
+                row.get("version", Long.class));
+    }
+}
@@ -1,8 +1,40 @@
 package com.example.universitymanager.domain.student;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentSearchRepository {
+
+    String SELECT_DTO = "select new com.example.universitymanager.domain.student.StudentDto(" +
+            "s.id, s.firstName, s.lastName, s.indexCode, s.studiesStartYear, s.version) from Student s ";
+
+    @Query(SELECT_DTO + "where s.id > :id order by s.id asc")
+    List<StudentDto> findPageOrderedById(@Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_DTO + "where s.lastName > :lastName or (s.lastName = :lastName and s.id > :id) " +
+            "order by s.lastName asc, s.id asc")
+    List<StudentDto> findPageOrderedByLastName(@Param("lastName") String lastName,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    @Query(SELECT_DTO + "where s.studiesStartYear > :studiesStartYear or (s.studiesStartYear = :studiesStartYear and s.id > :id) " +
+            "order by s.studiesStartYear asc, s.id asc")
+    List<StudentDto> findPageOrderedByStudiesStartYear(@Param("studiesStartYear") int studiesStartYear,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "order by s.id asc")
+    Stream<StudentDto> streamAllAsDto();
 }
@@ -0,0 +1,14 @@
+package com.example.universitymanager.domain.student;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StudentSearchCriteria {
+
+    private String firstName;
+    private String lastName;
+    private String indexCode;
+    private Integer studiesStartYear;
+}
@@ -0,0 +1,8 @@
+package com.example.universitymanager.domain.student;
+
+import java.util.List;
+
+public interface StudentSearchRepository {
+
+    List<StudentDto> search(StudentSearchCriteria criteria, long afterId, int limit);
+}
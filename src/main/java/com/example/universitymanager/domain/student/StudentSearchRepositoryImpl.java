@@ -0,0 +1,56 @@
+package com.example.universitymanager.domain.student;
+
+import com.example.universitymanager.domain.common.search.SearchPredicates;
+import org.springframework.util.StringUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StudentSearchRepositoryImpl implements StudentSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<StudentDto> search(StudentSearchCriteria criteria, long afterId, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudentDto> query = criteriaBuilder.createQuery(StudentDto.class);
+        Root<Student> student = query.from(Student.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.greaterThan(student.<Long>get("id"), afterId));
+        if (StringUtils.hasText(criteria.getLastName())) {
+            predicates.add(SearchPredicates.startsWithIgnoringCase(
+                    criteriaBuilder, student.get("lastName"), criteria.getLastName()));
+        }
+        if (StringUtils.hasText(criteria.getFirstName())) {
+            predicates.add(SearchPredicates.startsWithIgnoringCase(
+                    criteriaBuilder, student.get("firstName"), criteria.getFirstName()));
+        }
+        if (StringUtils.hasText(criteria.getIndexCode())) {
+            predicates.add(criteriaBuilder.equal(student.get("indexCode"), criteria.getIndexCode().trim()));
+        }
+        if (criteria.getStudiesStartYear() != null) {
+            predicates.add(criteriaBuilder.equal(student.get("studiesStartYear"), criteria.getStudiesStartYear()));
+        }
+
+        query.select(criteriaBuilder.construct(StudentDto.class,
+                        student.get("id"),
+                        student.get("firstName"),
+                        student.get("lastName"),
+                        student.get("indexCode"),
+                        student.get("studiesStartYear"),
+                        student.get("version")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(criteriaBuilder.asc(student.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
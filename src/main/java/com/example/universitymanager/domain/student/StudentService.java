@@ -1,17 +1,41 @@
 package com.example.universitymanager.domain.student;
 
+import com.example.universitymanager.domain.common.bulk.BulkProperties;
+import com.example.universitymanager.domain.common.cache.CacheConfig;
 import com.example.universitymanager.domain.common.exceptions.EntityNotFoundException;
+import com.example.universitymanager.domain.common.pagination.Cursor;
+import com.example.universitymanager.domain.common.pagination.CursorPage;
+import com.example.universitymanager.domain.common.pagination.PaginationProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class StudentService {
 
     private final StudentRepository studentRepo;
+    private final PaginationProperties paginationProperties;
+    private final BulkProperties bulkProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
+    @Transactional
     public Student create(Student student) {
         if (student == null) {
             throw new IllegalArgumentException("Student must not be null");
@@ -19,18 +43,129 @@ public class StudentService {
         if (student.getId() != null) {
             throw new IllegalArgumentException("Student id should be null");
         }
-        return studentRepo.save(student);
+        Student createdStudent = studentRepo.save(student);
+        eventPublisher.publishEvent(StudentChangedEvent.created(createdStudent.toDto()));
+        return createdStudent;
     }
 
+    @Transactional
+    public List<Student> createAll(List<Student> students) {
+        if (students == null || students.isEmpty()) {
+            throw new IllegalArgumentException("Students must not be empty");
+        }
+        if (students.size() > bulkProperties.getMaxItems()) {
+            throw new IllegalArgumentException("At most " + bulkProperties.getMaxItems() + " students can be created at once");
+        }
+        for (int index = 0; index < students.size(); index++) {
+            Student student = students.get(index);
+            if (student == null) {
+                throw new IllegalArgumentException("Student at index " + index + " must not be null");
+            }
+            if (student.getId() != null) {
+                throw new IllegalArgumentException("Student at index " + index + " id should be null");
+            }
+        }
+        List<Student> createdStudents = new ArrayList<>(students.size());
+        int flushSize = bulkProperties.getFlushSize();
+        for (int from = 0; from < students.size(); from += flushSize) {
+            createdStudents.addAll(studentRepo.saveAll(students.subList(from, Math.min(from + flushSize, students.size()))));
+            studentRepo.flush();
+            entityManager.clear();
+        }
+        createdStudents.forEach(createdStudent -> eventPublisher.publishEvent(StudentChangedEvent.created(createdStudent.toDto())));
+        return createdStudents;
+    }
+
+    /**
+     * Loads the entity for callers that attach it to other entities; it is never cached, because a cached entity
+     * would be shared, mutable and detached. Reads that only need the data go through {@link #getDtoById(Long)}.
+     */
     public Student getById(Long id) {
         return studentRepo.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Student with id " + id + " not found"));
     }
 
+    /**
+     * Not read-only, so a cache miss reads the primary. A lagging replica would otherwise refill the entry
+     * evicted by an update with the old row, and the cached DTO carries the ETag version too, so clients would
+     * see the stale student as current until the entry expires.
+     */
+    @Cacheable(cacheNames = CacheConfig.STUDENTS, key = "#id")
+    @Transactional
+    public StudentDto getDtoById(Long id) {
+        return getById(id).toDto();
+    }
+
+    public List<Student> getAllByIds(Collection<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Student ids must not be null");
+        }
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Student> students = studentRepo.findAllById(ids);
+        Set<Long> foundIds = students.stream()
+                .map(Student::getId)
+                .collect(Collectors.toSet());
+        List<Long> missingIds = ids.stream()
+                .distinct()
+                .filter(id -> !foundIds.contains(id))
+                .sorted()
+                .collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("Students with ids " + missingIds + " not found");
+        }
+        return students;
+    }
+
+    @Transactional(readOnly = true)
     public List<Student> getAll() {
         return studentRepo.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<StudentDto> getPage(String cursorToken, Integer pageSize, StudentSortField sortField) {
+        int size = paginationProperties.resolvePageSize(pageSize);
+        Cursor cursor = Cursor.decode(cursorToken, sortField.getParamName());
+        Pageable limit = PageRequest.of(0, size + 1);
+        long afterId = cursor == null ? 0L : cursor.getId();
+        List<StudentDto> students;
+        switch (sortField) {
+            case LAST_NAME:
+                students = studentRepo.findPageOrderedByLastName(
+                        cursor == null ? "" : cursor.getKey(), afterId, limit);
+                break;
+            case STUDIES_START_YEAR:
+                students = studentRepo.findPageOrderedByStudiesStartYear(
+                        cursor == null ? Integer.MIN_VALUE : cursor.getKeyAsInt(), afterId, limit);
+                break;
+            default:
+                students = studentRepo.findPageOrderedById(afterId, limit);
+        }
+        return CursorPage.of(students, size, student -> Cursor.of(
+                sortField.getParamName(), student.getId(), sortField.getKeyExtractor().apply(student)));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<StudentDto> search(StudentSearchCriteria criteria, String cursorToken, Integer pageSize) {
+        int size = paginationProperties.resolvePageSize(pageSize);
+        String sort = StudentSortField.ID.getParamName();
+        Cursor cursor = Cursor.decode(cursorToken, sort);
+        List<StudentDto> students = studentRepo.search(criteria, cursor == null ? 0L : cursor.getId(), size + 1);
+        return CursorPage.of(students, size, student -> Cursor.of(sort, student.getId(), student.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<StudentDto> rowConsumer) {
+        try (Stream<StudentDto> students = studentRepo.streamAllAsDto()) {
+            students.forEach(rowConsumer);
+        }
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#updatedStudent.id"),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)})
+    @Transactional
     public void update(Student updatedStudent) {
         if (updatedStudent == null) {
             throw new IllegalArgumentException("Student must not be null");
@@ -38,17 +173,26 @@ public class StudentService {
         if (updatedStudent.getId() == null) {
             throw new IllegalArgumentException("Student id must not be null");
         }
+        if (updatedStudent.getVersion() == null) {
+            throw new IllegalArgumentException("Student version must not be null");
+        }
         if (!studentRepo.existsById(updatedStudent.getId())) {
             throw new EntityNotFoundException("Update failed. Student with id " + updatedStudent.getId() + " not found");
         }
-        studentRepo.save(updatedStudent);
+        Student savedStudent = studentRepo.save(updatedStudent);
+        eventPublisher.publishEvent(StudentChangedEvent.updated(savedStudent.toDto()));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)})
+    @Transactional
     public void delete(Long id) {
         if (!studentRepo.existsById(id)) {
             throw new EntityNotFoundException("Delete failed. Student with id " + id + " not found");
         }
         studentRepo.deleteById(id);
+        eventPublisher.publishEvent(StudentChangedEvent.deleted(id));
     }
 
 }
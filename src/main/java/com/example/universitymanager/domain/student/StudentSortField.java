@@ -0,0 +1,29 @@
+package com.example.universitymanager.domain.student;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor
+public enum StudentSortField {
+
+    ID("id", StudentDto::getId),
+    LAST_NAME("lastName", StudentDto::getLastName),
+    STUDIES_START_YEAR("studiesStartYear", StudentDto::getStudiesStartYear);
+
+    private final String paramName;
+    private final Function<StudentDto, Object> keyExtractor;
+
+    public static StudentSortField fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return ID;
+        }
+        return Arrays.stream(values())
+                .filter(sortField -> sortField.paramName.equals(param))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Students cannot be sorted by " + param));
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.universitymanager.domain.student.controller;
+
+import com.example.universitymanager.domain.common.exceptions.EntityNotFoundException;
+import com.example.universitymanager.domain.student.StudentDto;
+import com.example.universitymanager.domain.student.StudentReactiveReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("api/v1/reactive/students")
+@RequiredArgsConstructor
+public class ReactiveStudentController {
+
+    private final StudentReactiveReader studentReactiveReader;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<StudentDto> streamAllStudents(@RequestParam(defaultValue = "0") long afterId) {
+        return studentReactiveReader.streamAll(afterId);
+    }
+
+    @GetMapping(path = "/{id}")
+    public Mono<StudentDto> getStudentById(@PathVariable Long id) {
+        return studentReactiveReader.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EntityNotFoundException("Student with id " + id + " not found")));
+    }
+}
@@ -1,23 +1,39 @@
 package com.example.universitymanager.domain.student.controller;
 
+import com.example.universitymanager.domain.common.etag.ETags;
+import com.example.universitymanager.domain.common.export.ExportColumn;
+import com.example.universitymanager.domain.common.export.ExportFormat;
+import com.example.universitymanager.domain.common.export.ExportWriter;
+import com.example.universitymanager.domain.common.pagination.CursorPage;
 import com.example.universitymanager.domain.student.Student;
 import com.example.universitymanager.domain.student.StudentDto;
+import com.example.universitymanager.domain.student.StudentSearchCriteria;
 import com.example.universitymanager.domain.student.StudentService;
+import com.example.universitymanager.domain.student.StudentSortField;
+import com.example.universitymanager.domain.student.controller.request.BulkCreateStudentsRequest;
 import com.example.universitymanager.domain.student.controller.request.CreateStudentRequest;
 import com.example.universitymanager.domain.student.controller.request.UpdateStudentRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,41 +42,91 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StudentController {
 
+    private static final List<ExportColumn<StudentDto>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", StudentDto::getId),
+            ExportColumn.of("firstName", StudentDto::getFirstName),
+            ExportColumn.of("lastName", StudentDto::getLastName),
+            ExportColumn.of("indexCode", StudentDto::getIndexCode),
+            ExportColumn.of("studiesStartYear", StudentDto::getStudiesStartYear));
+
     private final StudentService studentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(code = HttpStatus.CREATED)
     public StudentDto createStudent(@RequestBody @Valid CreateStudentRequest createStudentRequest) {
-        Student studentToCreate = Student.builder()
-                .firstName(createStudentRequest.getFirstName())
-                .lastName(createStudentRequest.getLastName())
-                .indexCode(createStudentRequest.getIndexCode())
-                .studiesStartYear(createStudentRequest.getStudiesStartYear())
-                .build();
-        return studentService.create(studentToCreate).toDto();
+        return studentService.create(toStudent(createStudentRequest)).toDto();
+    }
+
+    @PostMapping(path = "/bulk")
+    @ResponseStatus(code = HttpStatus.CREATED)
+    public List<StudentDto> createStudents(@RequestBody @Valid BulkCreateStudentsRequest bulkCreateStudentsRequest) {
+        List<Student> studentsToCreate = bulkCreateStudentsRequest.getStudents().stream()
+                .map(this::toStudent)
+                .collect(Collectors.toList());
+        return studentService.createAll(studentsToCreate).stream()
+                .map(Student::toDto)
+                .collect(Collectors.toList());
     }
 
     @GetMapping(path = "/{id}")
-    public StudentDto getStudentById(@PathVariable Long id) {
-        return studentService.getById(id).toDto();
+    public StudentDto getStudentById(@PathVariable Long id, WebRequest webRequest) {
+        StudentDto studentDto = studentService.getDtoById(id);
+        if (webRequest.checkNotModified(ETags.forVersion(studentDto.getVersion()))) {
+            return null;
+        }
+        return studentDto;
     }
 
     @GetMapping
-    public List<StudentDto> getAllStudents() {
-        return studentService.getAll().stream()
-                .map(Student::toDto)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<StudentDto>> getAllStudents(@RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(required = false) String sort,
+                                                           WebRequest webRequest) {
+        CursorPage<StudentDto> page = studentService.getPage(cursor, size, StudentSortField.fromParam(sort));
+        if (webRequest.checkNotModified(ETags.forCollection(page.getItems(), page.getNextCursor()))) {
+            return null;
+        }
+        return page.toResponseEntity();
+    }
+
+    @GetMapping(path = "/search")
+    public ResponseEntity<List<StudentDto>> searchStudents(@RequestParam(required = false) String firstName,
+                                                           @RequestParam(required = false) String lastName,
+                                                           @RequestParam(required = false) String indexCode,
+                                                           @RequestParam(required = false) Integer studiesStartYear,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer size) {
+        StudentSearchCriteria criteria = StudentSearchCriteria.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .indexCode(indexCode)
+                .studiesStartYear(studiesStartYear)
+                .build();
+        return studentService.search(criteria, cursor, size).toResponseEntity();
+    }
+
+    @GetMapping(path = "/export")
+    public void exportStudents(@RequestParam(required = false) String format,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        try (ExportWriter<StudentDto> exportWriter =
+                     ExportWriter.open(exportFormat, "students", EXPORT_COLUMNS, objectMapper, response)) {
+            studentService.exportAll(exportWriter);
+        }
     }
 
     @PutMapping
     @ResponseStatus(code = HttpStatus.NO_CONTENT)
-    public void updateStudentById(@RequestBody @Valid UpdateStudentRequest updateStudentRequest) {
+    public void updateStudentById(@RequestBody @Valid UpdateStudentRequest updateStudentRequest,
+                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Student studentToUpdate = Student.builder()
                 .id(updateStudentRequest.getId())
                 .firstName(updateStudentRequest.getFirstName())
                 .lastName(updateStudentRequest.getLastName())
                 .indexCode(updateStudentRequest.getIndexCode())
                 .studiesStartYear(updateStudentRequest.getStudiesStartYear())
+                .version(ETags.requireVersion(ifMatch, updateStudentRequest.getVersion()))
                 .build();
         studentService.update(studentToUpdate);
     }
@@ -70,4 +136,13 @@ public class StudentController {
     public void deleteStudentById(@PathVariable Long id) {
         studentService.delete(id);
     }
+
+    private Student toStudent(CreateStudentRequest createStudentRequest) {
+        return Student.builder()
+                .firstName(createStudentRequest.getFirstName())
+                .lastName(createStudentRequest.getLastName())
+                .indexCode(createStudentRequest.getIndexCode())
+                .studiesStartYear(createStudentRequest.getStudiesStartYear())
+                .build();
+    }
 }
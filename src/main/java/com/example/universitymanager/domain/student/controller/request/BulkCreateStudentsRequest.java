@@ -0,0 +1,26 @@
+package com.example.universitymanager.domain.student.controller.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+public class BulkCreateStudentsRequest {
+
+    @NotEmpty(message = "Students must not be empty")
+    @Valid
+    private final List<@NotNull(message = "Student must not be null") CreateStudentRequest> students;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public BulkCreateStudentsRequest(List<CreateStudentRequest> students) {
+        this.students = students;
+    }
+
+    @JsonValue
+    public List<CreateStudentRequest> getStudents() {
+        return students;
+    }
+}
@@ -24,5 +24,9 @@ public class UpdateStudentRequest {
     @Min(value = 2000, message = "Studies start year should not be less than 2000")
     @Max(value = 2099, message = "Studies start year should not be greater than 2099")
     private Integer studiesStartYear;
+    /**
+     * Version the update is based on; may be sent in the {@code If-Match} header instead.
+     */
+    private Long version;
 
 }
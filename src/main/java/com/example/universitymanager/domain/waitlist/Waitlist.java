@@ -0,0 +1,131 @@
+package com.example.universitymanager.domain.waitlist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory mirror of the persisted waitlists, one FIFO queue per course, plus the set of courses that may have
+ * a free seat since the last promotion. Queues are updated only after the change is committed, so the mirror
+ * never shows an entry the database does not have; each queue is guarded by its own monitor.
+ */
+public class Waitlist {
+
+    private final Map<Long, LinkedHashMap<Long, WaitlistRow>> queues = new ConcurrentHashMap<>();
+    private final Set<Long> pendingCourses = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger depth = new AtomicInteger();
+
+    public void add(WaitlistRow row) {
+        LinkedHashMap<Long, WaitlistRow> queue = queues.computeIfAbsent(row.getCourseId(), id -> new LinkedHashMap<>());
+        synchronized (queue) {
+            if (queue.putIfAbsent(row.getStudentId(), row) == null) {
+                depth.incrementAndGet();
+            }
+        }
+    }
+
+    public boolean remove(Long courseId, Long studentId) {
+        LinkedHashMap<Long, WaitlistRow> queue = queues.get(courseId);
+        if (queue == null) {
+            return false;
+        }
+        synchronized (queue) {
+            if (queue.remove(studentId) == null) {
+                return false;
+            }
+            depth.decrementAndGet();
+            return true;
+        }
+    }
+
+    public void removeCourse(Long courseId) {
+        LinkedHashMap<Long, WaitlistRow> queue = queues.remove(courseId);
+        if (queue != null) {
+            synchronized (queue) {
+                depth.addAndGet(-queue.size());
+            }
+        }
+        pendingCourses.remove(courseId);
+    }
+
+    public void removeStudent(Long studentId) {
+        queues.keySet().forEach(courseId -> remove(courseId, studentId));
+    }
+
+    /**
+     * @return up to {@code limit} rows from the head of the course's queue, oldest first
+     */
+    public List<WaitlistRow> head(Long courseId, int limit) {
+        List<WaitlistRow> head = new ArrayList<>();
+        LinkedHashMap<Long, WaitlistRow> queue = queues.get(courseId);
+        if (queue == null) {
+            return head;
+        }
+        synchronized (queue) {
+            for (WaitlistRow row : queue.values()) {
+                if (head.size() >= limit) {
+                    break;
+                }
+                head.add(row);
+            }
+        }
+        return head;
+    }
+
+    public List<WaitlistRow> entries(Long courseId) {
+        return head(courseId, Integer.MAX_VALUE);
+    }
+
+    public int depth() {
+        return depth.get();
+    }
+
+    public int depth(Long courseId) {
+        LinkedHashMap<Long, WaitlistRow> queue = queues.get(courseId);
+        if (queue == null) {
+            return 0;
+        }
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    public void markPending(Long courseId) {
+        if (depth(courseId) > 0) {
+            pendingCourses.add(courseId);
+        }
+    }
+
+    public void markAllPending() {
+        queues.keySet().forEach(this::markPending);
+    }
+
+    public int pendingCourses() {
+        return pendingCourses.size();
+    }
+
+    /**
+     * Removes and returns up to {@code limit} courses marked since the last call.
+     */
+    public List<Long> drainPending(int limit) {
+        List<Long> courseIds = new ArrayList<>();
+        for (Long courseId : pendingCourses) {
+            if (courseIds.size() >= limit) {
+                break;
+            }
+            if (pendingCourses.remove(courseId)) {
+                courseIds.add(courseId);
+            }
+        }
+        return courseIds;
+    }
+
+    public void removeAll(Collection<WaitlistRow> rows) {
+        rows.forEach(row -> remove(row.getCourseId(), row.getStudentId()));
+    }
+}
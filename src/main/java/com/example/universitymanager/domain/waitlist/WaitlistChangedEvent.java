@@ -0,0 +1,26 @@
+package com.example.universitymanager.domain.waitlist;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class WaitlistChangedEvent {
+
+    private final Long courseId;
+    private final Long studentId;
+    private final WaitlistRow row;
+
+    public static WaitlistChangedEvent joined(WaitlistRow row) {
+        return new WaitlistChangedEvent(row.getCourseId(), row.getStudentId(), row);
+    }
+
+    public static WaitlistChangedEvent left(Long courseId, Long studentId) {
+        return new WaitlistChangedEvent(courseId, studentId, null);
+    }
+
+    public boolean isJoined() {
+        return row != null;
+    }
+}
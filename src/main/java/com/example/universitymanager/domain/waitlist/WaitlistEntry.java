@@ -0,0 +1,56 @@
+package com.example.universitymanager.domain.waitlist;
+
+import com.example.universitymanager.domain.course.Course;
+import com.example.universitymanager.domain.student.Student;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import java.time.Instant;
+
+@Entity
+@Table(name = "waitlist_entries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_entries_course_student",
+                columnNames = {"course_id", "student_id"}),
+        indexes = @Index(name = "idx_waitlist_entries_course_id_created_at", columnList = "course_id, created_at"))
+@NoArgsConstructor
+@Getter
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entries_seq")
+    @SequenceGenerator(name = "waitlist_entries_seq", sequenceName = "waitlist_entries_seq", allocationSize = 50)
+    private Long id;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Course course;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Student student;
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Builder
+    public WaitlistEntry(Course course, Student student, Instant createdAt) {
+        this.course = course;
+        this.student = student;
+        this.createdAt = createdAt;
+    }
+
+    public WaitlistRow toRow() {
+        return new WaitlistRow(id, course.getId(), student.getId(), createdAt);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.universitymanager.domain.waitlist;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class WaitlistEntryDto {
+
+    private Long studentId;
+    private int position;
+    private Instant joinedAt;
+}
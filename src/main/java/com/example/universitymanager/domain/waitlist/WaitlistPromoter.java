@@ -0,0 +1,198 @@
+package com.example.universitymanager.domain.waitlist;
+
+import com.example.universitymanager.domain.common.cache.CacheConfig;
+import com.example.universitymanager.domain.course.CourseEnrollmentChangedEvent;
+import com.example.universitymanager.domain.course.CourseRepository;
+import com.example.universitymanager.domain.course.CourseSeatsView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves waitlisted students into freed seats off the request path. Each run drains the courses marked as
+ * possibly having a free seat and promotes all of them in one transaction: one seat query for the whole batch,
+ * one conditional update per course reserving its seats, a batched delete that claims the waitlist entries and a
+ * batched insert for the promoted rows. A course whose seats are gone by the time they are reserved is left
+ * marked for the next run without holding up the others. The mirror is updated only after the batch commits; a
+ * failed batch leaves its courses marked for the next run.
+ */
+@Slf4j
+@Component
+public class WaitlistPromoter {
+
+    private static final String SELECT_ENROLLED = "select course_id, student_id from course_students " +
+            "where course_id in (:courseIds) and student_id in (:studentIds)";
+    private static final String INSERT_ENROLLMENT = "insert into course_students (course_id, student_id) values (?, ?)";
+    private static final String DELETE_ENTRY = "delete from waitlist_entries where id = ?";
+
+    private final WaitlistService waitlistService;
+    private final WaitlistProperties waitlistProperties;
+    private final CourseRepository courseRepo;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final Counter promotionsCounter;
+    private final Timer batchTimer;
+
+    public WaitlistPromoter(WaitlistService waitlistService,
+                            WaitlistProperties waitlistProperties,
+                            CourseRepository courseRepo,
+                            NamedParameterJdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            CacheManager cacheManager,
+                            MeterRegistry meterRegistry) {
+        this.waitlistService = waitlistService;
+        this.waitlistProperties = waitlistProperties;
+        this.courseRepo = courseRepo;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.promotionsCounter = Counter.builder("waitlist.promotions")
+                .description("Students moved from a waitlist into the course")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("waitlist.promotion.batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.waitlist.promotion-interval:PT1S}")
+    public synchronized void promote() {
+        Waitlist waitlist = waitlistService.getMirror();
+        List<Long> courseIds = waitlist.drainPending(waitlistProperties.getMaxCoursesPerBatch());
+        if (courseIds.isEmpty()) {
+            return;
+        }
+        PromotionBatch batch;
+        try {
+            batch = batchTimer.recordCallable(() -> transactionTemplate.execute(status -> promoteInTransaction(courseIds)));
+        } catch (Exception exception) {
+            log.warn("Waitlist promotion of {} courses failed, retrying on the next run", courseIds.size(), exception);
+            courseIds.forEach(waitlist::markPending);
+            return;
+        }
+        waitlist.removeAll(batch.removed);
+        Cache courseCache = cacheManager.getCache(CacheConfig.COURSES);
+        for (WaitlistRow row : batch.promoted) {
+            if (courseCache != null) {
+                courseCache.evict(row.getCourseId());
+            }
+            eventPublisher.publishEvent(CourseEnrollmentChangedEvent.enrolled(row.getCourseId(), row.getStudentId()));
+        }
+        promotionsCounter.increment(batch.promoted.size());
+        batch.unfinishedCourseIds.forEach(waitlist::markPending);
+    }
+
+    private PromotionBatch promoteInTransaction(List<Long> courseIds) {
+        Waitlist waitlist = waitlistService.getMirror();
+        PromotionBatch batch = new PromotionBatch();
+        Map<Long, List<WaitlistRow>> candidatesByCourseId = new LinkedHashMap<>();
+        for (CourseSeatsView seats : courseRepo.findSeatsByIds(courseIds)) {
+            int depth = waitlist.depth(seats.getId());
+            int freeSeats = seats.getCapacity() == null ? depth : seats.getCapacity() - seats.getEnrolledCount();
+            int promotions = Math.min(Math.min(freeSeats, depth), waitlistProperties.getMaxPromotionsPerCourse());
+            if (promotions > 0) {
+                candidatesByCourseId.put(seats.getId(), waitlist.head(seats.getId(), promotions));
+            }
+            if (freeSeats > promotions && depth > promotions) {
+                batch.unfinishedCourseIds.add(seats.getId());
+            }
+        }
+
+        // seats are reserved before anything else is written, so a course that lost its free seats since they were
+        // counted is only skipped and left marked, and the rest of the batch still commits
+        List<WaitlistRow> candidates = new ArrayList<>();
+        for (Map.Entry<Long, List<WaitlistRow>> course : candidatesByCourseId.entrySet()) {
+            if (courseRepo.reserveSeats(course.getKey(), course.getValue().size()) == 1) {
+                candidates.addAll(course.getValue());
+            } else {
+                batch.unfinishedCourseIds.add(course.getKey());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return batch;
+        }
+
+        // an entry that is already gone left the waitlist concurrently and is only dropped from the mirror, so a
+        // student who left is never enrolled
+        List<WaitlistRow> claimed = new ArrayList<>();
+        int[] deletedCounts = jdbcTemplate.getJdbcTemplate().batchUpdate(DELETE_ENTRY, candidates.stream()
+                .map(row -> new Object[]{row.getId()})
+                .collect(Collectors.toList()));
+        for (int index = 0; index < candidates.size(); index++) {
+            WaitlistRow candidate = candidates.get(index);
+            if (deletedCounts[index] == 1) {
+                claimed.add(candidate);
+            } else {
+                batch.removed.add(candidate);
+            }
+        }
+        Set<String> alreadyEnrolled = claimed.isEmpty() ? Set.of() : findAlreadyEnrolled(claimed);
+        for (WaitlistRow row : claimed) {
+            if (alreadyEnrolled.contains(key(row.getCourseId(), row.getStudentId()))) {
+                batch.removed.add(row);
+            } else {
+                batch.promoted.add(row);
+            }
+        }
+
+        // seats reserved for entries that were not promoted are handed back, and their courses checked again
+        Map<Long, Long> unusedSeatsByCourseId = batch.removed.stream()
+                .collect(Collectors.groupingBy(WaitlistRow::getCourseId, Collectors.counting()));
+        unusedSeatsByCourseId.forEach((courseId, unusedSeats) -> {
+            courseRepo.releaseSeats(courseId, unusedSeats.intValue());
+            batch.unfinishedCourseIds.add(courseId);
+        });
+        if (!batch.promoted.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_ENROLLMENT, batch.promoted.stream()
+                    .map(row -> new Object[]{row.getCourseId(), row.getStudentId()})
+                    .collect(Collectors.toList()));
+        }
+        batch.removed.addAll(batch.promoted);
+        return batch;
+    }
+
+    /**
+     * Students enrolled directly after joining the waitlist are dropped from it instead of promoted.
+     */
+    private Set<String> findAlreadyEnrolled(List<WaitlistRow> candidates) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("courseIds", candidates.stream().map(WaitlistRow::getCourseId).collect(Collectors.toSet()))
+                .addValue("studentIds", candidates.stream().map(WaitlistRow::getStudentId).collect(Collectors.toSet()));
+        Set<String> alreadyEnrolled = new HashSet<>();
+        jdbcTemplate.query(SELECT_ENROLLED, parameters, resultSet -> {
+            alreadyEnrolled.add(key(resultSet.getLong("course_id"), resultSet.getLong("student_id")));
+        });
+        return alreadyEnrolled;
+    }
+
+    private static String key(Long courseId, Long studentId) {
+        return courseId + ":" + studentId;
+    }
+
+    private static final class PromotionBatch {
+
+        private final List<WaitlistRow> promoted = new ArrayList<>();
+        private final List<WaitlistRow> removed = new ArrayList<>();
+        private final Set<Long> unfinishedCourseIds = new HashSet<>();
+    }
+}
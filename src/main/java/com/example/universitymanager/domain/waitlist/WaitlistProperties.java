@@ -0,0 +1,19 @@
+package com.example.universitymanager.domain.waitlist;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.waitlist")
+@Getter
+@Setter
+public class WaitlistProperties {
+
+    private Duration promotionInterval = Duration.ofSeconds(1);
+    private int maxCoursesPerBatch = 500;
+    private int maxPromotionsPerCourse = 100;
+}
@@ -0,0 +1,25 @@
+package com.example.universitymanager.domain.waitlist;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    @Query("select case when count(w) > 0 then true else false end " +
+            "from WaitlistEntry w where w.course.id = :courseId and w.student.id = :studentId")
+    boolean isWaitlisted(@Param("courseId") Long courseId, @Param("studentId") Long studentId);
+
+    @Query("select new com.example.universitymanager.domain.waitlist.WaitlistRow(" +
+            "w.id, w.course.id, w.student.id, w.createdAt) from WaitlistEntry w order by w.createdAt asc, w.id asc")
+    List<WaitlistRow> findAllRowsInOrder();
+
+    @Modifying
+    @Query("delete from WaitlistEntry w where w.course.id = :courseId and w.student.id = :studentId")
+    int deleteByCourseIdAndStudentId(@Param("courseId") Long courseId, @Param("studentId") Long studentId);
+}
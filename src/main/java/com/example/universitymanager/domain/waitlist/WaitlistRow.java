@@ -0,0 +1,16 @@
+package com.example.universitymanager.domain.waitlist;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class WaitlistRow {
+
+    private Long id;
+    private Long courseId;
+    private Long studentId;
+    private Instant createdAt;
+}
@@ -0,0 +1,178 @@
+package com.example.universitymanager.domain.waitlist;
+
+import com.example.universitymanager.domain.common.events.ChangeType;
+import com.example.universitymanager.domain.common.exceptions.EntityNotFoundException;
+import com.example.universitymanager.domain.course.CourseChangedEvent;
+import com.example.universitymanager.domain.course.CourseEnrollmentChangedEvent;
+import com.example.universitymanager.domain.course.CourseRepository;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentChangedEvent;
+import com.example.universitymanager.domain.student.StudentService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-course FIFO waitlists for students who missed out on a seat. Joining and leaving are persisted in the
+ * request; promotion into freed seats is left to {@link WaitlistPromoter}, which only needs to be told which
+ * courses may have a free seat.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistService {
+
+    private static final int LOAD_ATTEMPTS = 3;
+
+    private final WaitlistRepository waitlistRepo;
+    private final CourseRepository courseRepo;
+    private final StudentService studentService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Waitlist waitlist = new Waitlist();
+    private final Object loadLock = new Object();
+    private List<Runnable> changesDuringLoad = new ArrayList<>();
+
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("waitlist.depth", waitlist, Waitlist::depth)
+                .description("Students waiting across all courses")
+                .register(meterRegistry);
+        Gauge.builder("waitlist.pending.courses", waitlist, Waitlist::pendingCourses)
+                .description("Courses waiting to be checked for free seats")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Changes committed while the waitlists are being read are held back and replayed afterwards, so an entry that
+     * left during the load is not resurrected by the rows read before it left. A failed read is retried while the
+     * changes are still held back; the held changes are replayed even if every attempt fails, so the mirror keeps
+     * following the committed changes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWaitlists() {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    waitlistRepo.findAllRowsInOrder().forEach(waitlist::add);
+                    break;
+                } catch (RuntimeException exception) {
+                    if (attempt >= LOAD_ATTEMPTS) {
+                        throw exception;
+                    }
+                    log.warn("Loading the waitlists failed, attempt {} of {}", attempt, LOAD_ATTEMPTS, exception);
+                }
+            }
+        } finally {
+            synchronized (loadLock) {
+                changesDuringLoad.forEach(Runnable::run);
+                changesDuringLoad = null;
+            }
+        }
+        waitlist.markAllPending();
+    }
+
+    @Transactional
+    public void join(Long courseId, Long studentId) {
+        if (!courseRepo.existsById(courseId)) {
+            throw new EntityNotFoundException("Course with id " + courseId + " not found");
+        }
+        Student student = studentService.getById(studentId);
+        if (courseRepo.isEnrolled(courseId, studentId)) {
+            throw new IllegalArgumentException("Student is already enrolled in the course");
+        }
+        if (waitlistRepo.isWaitlisted(courseId, studentId)) {
+            throw new IllegalArgumentException("Student is already on the waitlist of the course");
+        }
+        WaitlistEntry waitlistEntry = waitlistRepo.save(WaitlistEntry.builder()
+                .course(courseRepo.getReferenceById(courseId))
+                .student(student)
+                .createdAt(Instant.now())
+                .build());
+        eventPublisher.publishEvent(WaitlistChangedEvent.joined(waitlistEntry.toRow()));
+    }
+
+    @Transactional
+    public void leave(Long courseId, Long studentId) {
+        if (waitlistRepo.deleteByCourseIdAndStudentId(courseId, studentId) == 0) {
+            throw new EntityNotFoundException("Student with id " + studentId + " is not on the waitlist of course with id " + courseId);
+        }
+        eventPublisher.publishEvent(WaitlistChangedEvent.left(courseId, studentId));
+    }
+
+    public List<WaitlistEntryDto> getWaitlist(Long courseId) {
+        if (!courseRepo.existsById(courseId)) {
+            throw new EntityNotFoundException("Course with id " + courseId + " not found");
+        }
+        List<WaitlistEntryDto> waitlistEntryDtos = new ArrayList<>();
+        for (WaitlistRow row : waitlist.entries(courseId)) {
+            waitlistEntryDtos.add(new WaitlistEntryDto(row.getStudentId(), waitlistEntryDtos.size() + 1, row.getCreatedAt()));
+        }
+        return waitlistEntryDtos;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWaitlistChanged(WaitlistChangedEvent event) {
+        if (event.isJoined()) {
+            apply(() -> {
+                waitlist.add(event.getRow());
+                waitlist.markPending(event.getCourseId());
+            });
+        } else {
+            apply(() -> waitlist.remove(event.getCourseId(), event.getStudentId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseEnrollmentChanged(CourseEnrollmentChangedEvent event) {
+        if (!event.isEnrolled()) {
+            apply(() -> waitlist.markPending(event.getCourseId()));
+        }
+    }
+
+    /**
+     * Roster and capacity updates may free seats; enrollments that only add students are checked too, which
+     * costs one query in the next promotion batch.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            apply(() -> waitlist.removeCourse(event.getCourseId()));
+        } else {
+            apply(() -> waitlist.markPending(event.getCourseId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            apply(() -> waitlist.removeStudent(event.getStudentId()));
+        }
+    }
+
+    Waitlist getMirror() {
+        return waitlist;
+    }
+
+    private void apply(Runnable change) {
+        synchronized (loadLock) {
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            } else {
+                change.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.universitymanager.domain.waitlist.controller;
+
+import com.example.universitymanager.domain.waitlist.WaitlistEntryDto;
+import com.example.universitymanager.domain.waitlist.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/courses/{courseId}/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @GetMapping
+    public List<WaitlistEntryDto> getWaitlist(@PathVariable Long courseId) {
+        return waitlistService.getWaitlist(courseId);
+    }
+
+    @PostMapping("/{studentId}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void joinWaitlist(@PathVariable Long courseId, @PathVariable Long studentId) {
+        waitlistService.join(courseId, studentId);
+    }
+
+    @DeleteMapping("/{studentId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void leaveWaitlist(@PathVariable Long courseId, @PathVariable Long studentId) {
+        waitlistService.leave(courseId, studentId);
+    }
+}
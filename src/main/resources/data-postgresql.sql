@@ -0,0 +1,4 @@
+create index if not exists idx_students_last_name_lower on students (lower(last_name) text_pattern_ops);
+create index if not exists idx_students_first_name_lower on students (lower(first_name) text_pattern_ops);
+create index if not exists idx_lecturers_last_name_lower on lecturers (lower(last_name) text_pattern_ops);
+create index if not exists idx_lecturers_first_name_lower on lecturers (lower(first_name) text_pattern_ops);
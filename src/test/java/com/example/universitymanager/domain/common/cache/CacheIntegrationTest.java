@@ -0,0 +1,155 @@
+package com.example.universitymanager.domain.common.cache;
+
+import com.example.universitymanager.domain.course.Course;
+import com.example.universitymanager.domain.course.CourseRepository;
+import com.example.universitymanager.domain.course.CourseService;
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerDto;
+import com.example.universitymanager.domain.lecturer.LecturerRepository;
+import com.example.universitymanager.domain.lecturer.LecturerService;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentDto;
+import com.example.universitymanager.domain.student.StudentRepository;
+import com.example.universitymanager.domain.student.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheIntegrationTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Student student;
+    private Lecturer lecturer;
+
+    @BeforeEach
+    public void prepareDatabase() {
+        clearDatabase();
+        student = studentService.create(Student.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .indexCode("123456")
+                .studiesStartYear(2023)
+                .build());
+        lecturer = lecturerService.create(Lecturer.builder()
+                .firstName("Adam")
+                .lastName("Nowak")
+                .title("PhD")
+                .email("adam.nowak@example.com")
+                .build());
+    }
+
+    @AfterEach
+    public void clearDatabase() {
+        courseRepository.deleteAll();
+        studentRepository.deleteAll();
+        lecturerRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+    }
+
+    @Test
+    void getDtoById_calledTwice_servesSecondCallFromCache() {
+        //given
+        StudentDto firstRead = studentService.getDtoById(student.getId());
+        studentRepository.deleteById(student.getId());
+
+        //when
+        StudentDto secondRead = studentService.getDtoById(student.getId());
+
+        //then
+        assertSame(firstRead, secondRead);
+        assertNotNull(cache(CacheConfig.STUDENTS).get(student.getId()));
+    }
+
+    @Test
+    void update_cachedStudent_evictsStudentAndCourses() {
+        //given
+        Course course = courseRepository.save(Course.builder()
+                .courseName("Algebra")
+                .leadingLecturer(lecturer)
+                .build());
+        studentService.getDtoById(student.getId());
+        courseService.getDtoById(course.getId());
+        Student updatedStudent = Student.builder()
+                .id(student.getId())
+                .firstName("Jack")
+                .lastName(student.getLastName())
+                .indexCode(student.getIndexCode())
+                .studiesStartYear(student.getStudiesStartYear())
+                .version(student.getVersion())
+                .build();
+
+        //when
+        studentService.update(updatedStudent);
+
+        //then
+        assertNull(cache(CacheConfig.STUDENTS).get(student.getId()));
+        assertNull(cache(CacheConfig.COURSES).get(course.getId()));
+        assertEquals("Jack", studentService.getDtoById(student.getId()).getFirstName());
+    }
+
+    @Test
+    void delete_cachedLecturer_evictsLecturer() {
+        //given
+        LecturerDto cachedLecturer = lecturerService.getDtoById(lecturer.getId());
+
+        //when
+        lecturerService.delete(lecturer.getId());
+
+        //then
+        assertNotNull(cachedLecturer);
+        assertNull(cache(CacheConfig.LECTURERS).get(lecturer.getId()));
+    }
+
+    @Test
+    void enrollStudent_cachedCourse_evictsCourse() {
+        //given
+        Course course = courseRepository.save(Course.builder()
+                .courseName("Algebra")
+                .leadingLecturer(lecturer)
+                .build());
+        courseService.getDtoById(course.getId());
+
+        //when
+        courseService.enrollStudent(course.getId(), student.getId());
+
+        //then
+        assertNull(cache(CacheConfig.COURSES).get(course.getId()));
+        assertEquals(1, courseService.getDtoById(course.getId()).getStudentDtos().size());
+    }
+
+    private Cache cache(String cacheName) {
+        return cacheManager.getCache(cacheName);
+    }
+}
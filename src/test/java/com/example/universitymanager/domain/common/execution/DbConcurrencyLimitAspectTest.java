@@ -0,0 +1,62 @@
+package com.example.universitymanager.domain.common.execution;
+
+import com.example.universitymanager.domain.common.exceptions.DatabaseBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DbConcurrencyLimitAspectTest {
+
+    private final DbConcurrencyLimitAspect aspect =
+            new DbConcurrencyLimitAspect(1, Duration.ofMillis(50), new SimpleMeterRegistry());
+
+    @Test
+    void limit_nestedCallOnSameThread_reusesPermit() throws Throwable {
+        //given
+        ProceedingJoinPoint inner = mock(ProceedingJoinPoint.class);
+        when(inner.proceed()).thenReturn("inner");
+        ProceedingJoinPoint outer = mock(ProceedingJoinPoint.class);
+        when(outer.proceed()).thenAnswer(invocation -> aspect.limit(inner));
+
+        //when
+        Object result = aspect.limit(outer);
+
+        //then
+        assertEquals("inner", result);
+    }
+
+    @Test
+    void limit_allPermitsHeldByOtherThread_throwsDatabaseBusyException() throws Throwable {
+        //given
+        CountDownLatch permitTaken = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ProceedingJoinPoint blocking = mock(ProceedingJoinPoint.class);
+        when(blocking.proceed()).thenAnswer(invocation -> {
+            permitTaken.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                aspect.limit(blocking);
+            } catch (Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        });
+        assertTrue(permitTaken.await(5, TimeUnit.SECONDS));
+
+        //when //then
+        assertThrows(DatabaseBusyException.class, () -> aspect.limit(mock(ProceedingJoinPoint.class)));
+        release.countDown();
+        holder.join();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.universitymanager.domain.common.metrics;
+
+import com.example.universitymanager.domain.student.StudentService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.metrics.hibernate-statistics=true")
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void serviceCall_registersServiceTimerAndHibernateMetrics() {
+        //given //when
+        studentService.getAll();
+
+        //then
+        Timer serviceTimer = meterRegistry.find(ServiceMetricsAspect.TIMER_NAME)
+                .tag("class", "StudentService")
+                .tag("method", "getAll")
+                .tag("exception", "none")
+                .timer();
+        assertThat(serviceTimer).isNotNull();
+        assertThat(serviceTimer.count()).isPositive();
+
+        FunctionCounter statements = meterRegistry.find("hibernate.statements").functionCounter();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isPositive();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.universitymanager.domain.common.routing;
+
+import com.example.universitymanager.domain.common.etag.ETags;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentDto;
+import com.example.universitymanager.domain.student.StudentRepository;
+import com.example.universitymanager.domain.student.StudentService;
+import com.example.universitymanager.domain.student.controller.request.UpdateStudentRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The replica is a second pool on the same in-memory database, which is enough to observe where each
+ * transaction is routed.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.read-replicas.enabled=true",
+        "app.read-replicas.replicas[0].url=jdbc:h2:mem:routingdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.read-replicas.replicas[0].username=sa",
+        "app.read-replicas.replicas[0].password=",
+        "app.read-replicas.replicas[0].maximum-pool-size=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String REPLICA = "replica-0";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    public void clearDatabase() {
+        replicaRoutingDataSource.markHealthy(REPLICA, true);
+        studentRepository.deleteAll();
+    }
+
+    @Test
+    void getAll_readOnlyTransaction_isRoutedToReplica() {
+        //given
+        double replicaRoutes = routes(REPLICA);
+
+        //when
+        studentService.getAll();
+
+        //then
+        assertTrue(routes(REPLICA) > replicaRoutes);
+    }
+
+    @Test
+    void create_readWriteTransaction_isRoutedToPrimary() {
+        //given
+        double primaryRoutes = routes(ReplicaRoutingDataSource.PRIMARY);
+        double replicaRoutes = routes(REPLICA);
+
+        //when
+        studentService.create(Student.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .indexCode("123456")
+                .studiesStartYear(2023)
+                .build());
+
+        //then
+        assertTrue(routes(ReplicaRoutingDataSource.PRIMARY) > primaryRoutes);
+        assertEquals(replicaRoutes, routes(REPLICA));
+    }
+
+    @Test
+    void getAll_replicaUnhealthy_fallsBackToPrimary() {
+        //given
+        replicaRoutingDataSource.markHealthy(REPLICA, false);
+        double primaryRoutes = routes(ReplicaRoutingDataSource.PRIMARY);
+        double replicaRoutes = routes(REPLICA);
+
+        //when
+        studentService.getAll();
+
+        //then
+        assertTrue(routes(ReplicaRoutingDataSource.PRIMARY) > primaryRoutes);
+        assertEquals(replicaRoutes, routes(REPLICA));
+    }
+
+    @Test
+    void updateStudent_overHttp_readsOnlyFromPrimary() throws Exception {
+        //given
+        Student student = saveStudent();
+        UpdateStudentRequest updateStudentRequest = UpdateStudentRequest.builder()
+                .id(student.getId())
+                .firstName("Jack")
+                .lastName(student.getLastName())
+                .indexCode(student.getIndexCode())
+                .studiesStartYear(student.getStudiesStartYear())
+                .version(student.getVersion())
+                .build();
+        double replicaRoutes = routes(REPLICA);
+
+        //when
+        mockMvc.perform(put("/api/v1/students")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateStudentRequest)))
+                .andExpect(status().isNoContent());
+
+        //then
+        assertEquals(replicaRoutes, routes(REPLICA));
+    }
+
+    @Test
+    void deleteStudent_overHttp_readsOnlyFromPrimary() throws Exception {
+        //given
+        Student student = saveStudent();
+        double replicaRoutes = routes(REPLICA);
+
+        //when
+        mockMvc.perform(delete("/api/v1/students/" + student.getId()))
+                .andExpect(status().isNoContent());
+
+        //then
+        assertEquals(replicaRoutes, routes(REPLICA));
+    }
+
+    /**
+     * The replica here never lags, so the test checks the guarantee that makes lag harmless: the entry evicted
+     * by an update is refilled from the primary, with the new version in its ETag.
+     */
+    @Test
+    void getStudentById_afterUpdate_refillsCacheFromPrimary() throws Exception {
+        //given
+        Student student = saveStudent();
+        UpdateStudentRequest updateStudentRequest = UpdateStudentRequest.builder()
+                .id(student.getId())
+                .firstName("Jack")
+                .lastName(student.getLastName())
+                .indexCode(student.getIndexCode())
+                .studiesStartYear(student.getStudiesStartYear())
+                .version(student.getVersion())
+                .build();
+        mockMvc.perform(get("/api/v1/students/" + student.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/v1/students")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateStudentRequest)))
+                .andExpect(status().isNoContent());
+        double replicaRoutes = routes(REPLICA);
+
+        //when
+        MockHttpServletResponse response = mockMvc.perform(get("/api/v1/students/" + student.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        //then
+        assertEquals(replicaRoutes, routes(REPLICA));
+        assertEquals(ETags.forVersion(student.getVersion() + 1), response.getHeader(HttpHeaders.ETAG));
+        assertEquals("Jack", objectMapper.readValue(response.getContentAsString(), StudentDto.class).getFirstName());
+    }
+
+    private Student saveStudent() {
+        return studentService.create(Student.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .indexCode("123456")
+                .studiesStartYear(2023)
+                .build());
+    }
+
+    private double routes(String route) {
+        return meterRegistry.counter(ReplicaRoutingDataSource.ROUTE_COUNTER_NAME, "route", route).count();
+    }
+}
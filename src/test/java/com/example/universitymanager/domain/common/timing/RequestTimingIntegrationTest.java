@@ -0,0 +1,66 @@
+package com.example.universitymanager.domain.common.timing;
+
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.request-timing.enabled=true",
+        "app.request-timing.sample-rate=1.0"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestTimingIntegrationTest {
+
+    private static final String BASE_URL = "/api/v1/students";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TimingBreakdownEndpoint timingBreakdownEndpoint;
+
+    @BeforeEach
+    public void clearDatabase() {
+        studentRepository.deleteAll();
+    }
+
+    @Test
+    void getAllStudents_sampledRequest_reportsPhaseTimingsInServerTimingHeader() throws Exception {
+        // given
+        studentRepository.save(Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25470")
+                .studiesStartYear(2022)
+                .build());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        String serverTiming = String.join(", ", mvcResult.getResponse().getHeaders(RequestTimingHeaders.SERVER_TIMING));
+        assertTrue(serverTiming.contains("db;dur="));
+        assertTrue(serverTiming.contains("controller;dur="));
+        assertTrue(serverTiming.contains("service;dur="));
+        assertTrue(serverTiming.contains("repository;dur="));
+        assertTrue(serverTiming.contains("serialization;dur="));
+        assertTrue(timingBreakdownEndpoint.breakdown().stream()
+                .anyMatch(endpointTiming -> endpointTiming.getEndpoint().equals("GET /api/v1/students")));
+    }
+}
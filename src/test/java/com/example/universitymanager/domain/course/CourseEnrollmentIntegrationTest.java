@@ -0,0 +1,212 @@
+package com.example.universitymanager.domain.course;
+
+import com.example.universitymanager.domain.common.exceptions.CourseFullException;
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerRepository;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CourseEnrollmentIntegrationTest {
+
+    private static final int CAPACITY = 10;
+    private static final int APPLICANTS = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    private Course course;
+    private final List<Student> students = new ArrayList<>();
+
+    @BeforeEach
+    public void prepareDatabase() {
+        clearDatabase();
+        for (int index = 0; index < APPLICANTS; index++) {
+            students.add(studentRepository.save(Student.builder()
+                    .firstName("John" + index)
+                    .lastName("Doe")
+                    .indexCode(String.valueOf(300000 + index))
+                    .studiesStartYear(2023)
+                    .build()));
+        }
+        Lecturer lecturer = lecturerRepository.save(Lecturer.builder()
+                .firstName("Adam")
+                .lastName("Nowak")
+                .title("PhD")
+                .email("adam.nowak@example.com")
+                .build());
+        course = courseRepository.save(Course.builder()
+                .courseName("Algebra")
+                .leadingLecturer(lecturer)
+                .capacity(CAPACITY)
+                .build());
+    }
+
+    @AfterEach
+    public void clearDatabase() {
+        courseRepository.deleteAll();
+        studentRepository.deleteAll();
+        lecturerRepository.deleteAll();
+        students.clear();
+    }
+
+    @Test
+    void enrollStudent_moreConcurrentApplicantsThanSeats_fillsCourseWithoutOverbooking() throws Exception {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (Student student : students) {
+            Callable<Boolean> enrollment = () -> {
+                start.await();
+                try {
+                    courseService.enrollStudent(course.getId(), student.getId());
+                    return true;
+                } catch (CourseFullException exception) {
+                    return false;
+                }
+            };
+            results.add(executorService.submit(enrollment));
+        }
+
+        //when
+        start.countDown();
+        int enrolled = 0;
+        for (Future<Boolean> result : results) {
+            enrolled += result.get() ? 1 : 0;
+        }
+        executorService.shutdown();
+
+        //then
+        assertEquals(CAPACITY, enrolled);
+        CourseDto courseDto = courseService.getDtoById(course.getId());
+        assertEquals(CAPACITY, courseDto.getEnrolledCount());
+        assertEquals(CAPACITY, courseDto.getStudentDtos().size());
+    }
+
+    @Test
+    void enrollStudent_studentAlreadyEnrolled_throwsIllegalArgumentExceptionAndReleasesSeat() {
+        //given
+        Long studentId = students.get(0).getId();
+        courseService.enrollStudent(course.getId(), studentId);
+
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> courseService.enrollStudent(course.getId(), studentId));
+        assertEquals(1, courseRepository.findEnrolledCountById(course.getId()));
+    }
+
+    @Test
+    void unenrollStudent_enrolledStudent_freesSeat() {
+        //given
+        Long studentId = students.get(0).getId();
+        courseService.enrollStudent(course.getId(), studentId);
+
+        //when
+        courseService.unenrollStudent(course.getId(), studentId);
+
+        //then
+        assertEquals(0, courseRepository.findEnrolledCountById(course.getId()));
+        assertThrows(IllegalArgumentException.class, () -> courseService.unenrollStudent(course.getId(), studentId));
+        assertEquals(0, courseRepository.findEnrolledCountById(course.getId()));
+    }
+
+    @Test
+    void updateEnrollments_addedAndRemovedStudents_updatesRosterRowsAndSeats() {
+        //given
+        Long courseId = course.getId();
+        courseService.enrollStudent(courseId, students.get(0).getId());
+        courseService.enrollStudent(courseId, students.get(1).getId());
+
+        //when
+        courseService.updateEnrollments(courseId,
+                Set.of(students.get(2).getId(), students.get(3).getId(), students.get(4).getId()),
+                Set.of(students.get(0).getId()));
+
+        //then
+        assertFalse(courseRepository.isEnrolled(courseId, students.get(0).getId()));
+        assertTrue(courseRepository.isEnrolled(courseId, students.get(1).getId()));
+        assertTrue(courseRepository.isEnrolled(courseId, students.get(4).getId()));
+        assertEquals(4, courseRepository.findEnrolledCountById(courseId));
+        assertEquals(4, courseService.getDtoById(courseId).getStudentDtos().size());
+    }
+
+    @Test
+    void updateEnrollments_moreAddedStudentsThanFreeSeats_throwsCourseFullExceptionAndChangesNothing() {
+        //given
+        Long courseId = course.getId();
+        for (int index = 0; index < CAPACITY - 1; index++) {
+            courseService.enrollStudent(courseId, students.get(index).getId());
+        }
+        Set<Long> added = Set.of(students.get(CAPACITY).getId(), students.get(CAPACITY + 1).getId());
+
+        //when //then
+        assertThrows(CourseFullException.class, () -> courseService.updateEnrollments(courseId, added, Set.of()));
+        assertEquals(CAPACITY - 1, courseRepository.findEnrolledCountById(courseId));
+        assertFalse(courseRepository.isEnrolled(courseId, students.get(CAPACITY).getId()));
+    }
+
+    @Test
+    void updateEnrollments_removedStudentNotEnrolled_throwsIllegalArgumentExceptionAndChangesNothing() {
+        //given
+        Long courseId = course.getId();
+        courseService.enrollStudent(courseId, students.get(0).getId());
+        Set<Long> removed = Set.of(students.get(0).getId(), students.get(1).getId());
+
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> courseService.updateEnrollments(courseId, Set.of(), removed));
+        assertTrue(courseRepository.isEnrolled(courseId, students.get(0).getId()));
+        assertEquals(1, courseRepository.findEnrolledCountById(courseId));
+    }
+
+    @Test
+    void updateEnrollments_nullStudentId_returnsStatus400() throws Exception {
+        //given
+        String body = "{\"addedStudentsIds\":[null],\"removedStudentsIds\":[]}";
+
+        //when //then
+        mockMvc.perform(patch("/api/v1/courses/" + course.getId() + "/students")
+                        .contentType(APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+        assertEquals(0, courseRepository.findEnrolledCountById(course.getId()));
+    }
+}
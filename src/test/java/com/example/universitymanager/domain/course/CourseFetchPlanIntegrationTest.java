@@ -0,0 +1,140 @@
+package com.example.universitymanager.domain.course;
+
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerRepository;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Course reads must not load lecturers or rosters one course at a time: the number of statements stays the same
+ * however many courses and enrolled students there are.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CourseFetchPlanIntegrationTest {
+
+    private static final String BASE_URL = "/api/v1/courses";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Student> students = new ArrayList<>();
+    private final List<Course> courses = new ArrayList<>();
+
+    @BeforeEach
+    public void prepareDatabase() {
+        clearDatabase();
+        statistics().setStatisticsEnabled(true);
+        for (int index = 0; index < 40; index++) {
+            students.add(studentRepository.save(Student.builder()
+                    .firstName("John" + index)
+                    .lastName("Doe")
+                    .indexCode(String.valueOf(500000 + index))
+                    .studiesStartYear(2023)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    public void clearDatabase() {
+        courseRepository.deleteAll();
+        studentRepository.deleteAll();
+        lecturerRepository.deleteAll();
+        students.clear();
+        courses.clear();
+    }
+
+    @Test
+    void getAllCourses_growingNumberOfCourses_issuesConstantNumberOfStatements() throws Exception {
+        //given
+        addCourses(2, 3);
+        long fewCourses = countStatements(BASE_URL);
+        addCourses(20, 30);
+
+        //when
+        long manyCourses = countStatements(BASE_URL);
+
+        //then
+        assertThat(manyCourses).isEqualTo(fewCourses);
+    }
+
+    @Test
+    void getCourseById_growingRoster_issuesConstantNumberOfStatements() throws Exception {
+        //given
+        addCourses(1, 2);
+        addCourses(1, 40);
+        long smallRoster = countStatements(BASE_URL + "/" + courses.get(0).getId());
+
+        //when
+        long largeRoster = countStatements(BASE_URL + "/" + courses.get(1).getId());
+
+        //then
+        assertThat(largeRoster).isEqualTo(smallRoster);
+        assertThat(statistics().getEntityLoadCount()).isZero();
+        assertThat(statistics().getCollectionLoadCount()).isZero();
+    }
+
+    private void addCourses(int count, int rosterSize) {
+        for (int index = 0; index < count; index++) {
+            // leading lecturer is a one-to-one association, so every course needs a lecturer of its own
+            Lecturer lecturer = lecturerRepository.save(Lecturer.builder()
+                    .firstName("Adam")
+                    .lastName("Nowak" + courses.size())
+                    .title("PhD")
+                    .email("adam.nowak" + courses.size() + "@example.com")
+                    .build());
+            Course course = Course.builder()
+                    .courseName("Course " + courses.size())
+                    .leadingLecturer(lecturer)
+                    .build();
+            students.stream().limit(rosterSize).forEach(course::addStudent);
+            courses.add(courseRepository.save(course));
+        }
+    }
+
+    private long countStatements(String url) throws Exception {
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        statistics().clear();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        return statistics().getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.universitymanager.domain.course;
+
+import com.example.universitymanager.domain.course.controller.request.CreateCourseRequest;
+import com.example.universitymanager.domain.course.controller.request.UpdateCourseRequest;
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerRepository;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CourseIntegrationTest {
+
+    private static final String BASE_URL = "/api/v1/courses";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private Course course;
+
+    @BeforeEach
+    public void prepareDatabase() {
+        clearDatabase();
+        Lecturer lecturer = lecturerRepository.save(Lecturer.builder()
+                .firstName("Adam")
+                .lastName("Nowak")
+                .title("PhD")
+                .email("adam.nowak@example.com")
+                .build());
+        course = courseRepository.save(Course.builder()
+                .courseName("Algebra")
+                .leadingLecturer(lecturer)
+                .build());
+    }
+
+    @AfterEach
+    public void clearDatabase() {
+        courseRepository.deleteAll();
+        lecturerRepository.deleteAll();
+        studentRepository.deleteAll();
+    }
+
+    @Test
+    void streamAllCourses_reactiveEndpoint_streamsCoursesWithRostersAsNdjsonOrderedById() throws Exception {
+        // given
+        Lecturer secondLecturer = lecturerRepository.save(Lecturer.builder()
+                .firstName("Ewa")
+                .lastName("Nowak")
+                .title("professor")
+                .email("ewa.nowak@example.com")
+                .build());
+        Course secondCourse = Course.builder()
+                .courseName("Geometry")
+                .leadingLecturer(secondLecturer)
+                .build();
+        for (int index = 0; index < 2; index++) {
+            secondCourse.addStudent(studentRepository.save(Student.builder()
+                    .firstName("John")
+                    .lastName("Kowalski" + index)
+                    .indexCode("2546" + index)
+                    .studiesStartYear(2022)
+                    .build()));
+        }
+        secondCourse = courseRepository.save(secondCourse);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/reactive/courses").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        // then
+        String[] lines = mvcResult.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode firstCourse = objectMapper.readTree(lines[0]);
+        JsonNode streamedSecondCourse = objectMapper.readTree(lines[1]);
+        assertThat(firstCourse.get("id").asLong()).isEqualTo(course.getId());
+        assertThat(firstCourse.get("studentDtos")).isEmpty();
+        assertThat(streamedSecondCourse.get("id").asLong()).isEqualTo(secondCourse.getId());
+        assertThat(streamedSecondCourse.get("leadingLecturerDto").get("id").asLong()).isEqualTo(secondLecturer.getId());
+        assertThat(streamedSecondCourse.get("studentDtos")).hasSize(2);
+    }
+
+    @Test
+    void createCourse_emptyRoster_returnsCourseWithEmptyRoster() throws Exception {
+        // given
+        CreateCourseRequest createCourseRequest = CreateCourseRequest.builder()
+                .courseName("Topology")
+                .leadingLecturerId(course.getLeadingLecturer().getId())
+                .studentsIds(Set.of())
+                .build();
+
+        // when
+        String responseContent = mockMvc.perform(post(BASE_URL)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCourseRequest)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        assertThat(objectMapper.readTree(responseContent).get("studentDtos")).isEmpty();
+    }
+
+    @Test
+    void getAllCourses_ifNoneMatchFromPreviousGet_returnsStatus304() throws Exception {
+        // given
+        for (int index = 0; index < 20; index++) {
+            course.addStudent(studentRepository.save(Student.builder()
+                    .firstName("John")
+                    .lastName("Kowalski" + index)
+                    .indexCode("2546" + index)
+                    .studiesStartYear(2022)
+                    .build()));
+        }
+        courseRepository.save(course);
+        String eTag = mockMvc.perform(get(BASE_URL))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when //then
+        mockMvc.perform(get(BASE_URL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void updateCourse_ifMatchFromGet_updatesCourse() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get(BASE_URL + "/" + course.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        mockMvc.perform(put(BASE_URL)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest("Linear Algebra", null))))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getCourseName()).isEqualTo("Linear Algebra");
+    }
+
+    @Test
+    void updateCourse_noVersionInHeaderOrBody_returnsStatus428() throws Exception {
+        // given
+        UpdateCourseRequest updateCourseRequest = updateRequest("Linear Algebra", null);
+
+        // when
+        mockMvc.perform(put(BASE_URL)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateCourseRequest)))
+                .andExpect(status().isPreconditionRequired());
+
+        // then
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getCourseName()).isEqualTo("Algebra");
+    }
+
+    @Test
+    void updateCourse_staleVersion_returnsStatus409AndKeepsConcurrentChange() throws Exception {
+        // given
+        Long readVersion = course.getVersion();
+        mockMvc.perform(put(BASE_URL)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest("Linear Algebra", readVersion))))
+                .andExpect(status().isOk());
+
+        // when
+        mockMvc.perform(put(BASE_URL)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest("Abstract Algebra", readVersion))))
+                .andExpect(status().isConflict());
+
+        // then
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getCourseName()).isEqualTo("Linear Algebra");
+    }
+
+    @Test
+    void updateCourse_notExistingCourse_returnsStatus404() throws Exception {
+        // given
+        courseRepository.deleteAll();
+
+        // when //then
+        mockMvc.perform(put(BASE_URL)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest("Linear Algebra", 0L))))
+                .andExpect(status().isNotFound());
+    }
+
+    private UpdateCourseRequest updateRequest(String courseName, Long version) {
+        return UpdateCourseRequest.builder()
+                .id(course.getId())
+                .courseName(courseName)
+                .leadingLecturerId(course.getLeadingLecturer().getId())
+                .studentsIds(Set.of())
+                .version(version)
+                .build();
+    }
+}
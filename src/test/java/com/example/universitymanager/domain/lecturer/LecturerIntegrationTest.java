@@ -2,6 +2,7 @@ package com.example.universitymanager.domain.lecturer;
 
 
 import com.example.universitymanager.domain.common.ExceptionResponse;
+import com.example.universitymanager.domain.lecturer.controller.request.BulkCreateLecturersRequest;
 import com.example.universitymanager.domain.lecturer.controller.request.CreateLecturerRequest;
 import com.example.universitymanager.domain.lecturer.controller.request.UpdateLecturerRequest;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -13,11 +14,13 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,10 +29,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -52,6 +57,38 @@ class LecturerIntegrationTest {
         lecturerRepository.deleteAll();
     }
 
+    @Test
+    void streamAllLecturers_reactiveEndpoint_streamsLecturersAsNdjsonOrderedById() throws Exception {
+        // given
+        Lecturer firstLecturer = lecturerRepository.save(Lecturer.builder()
+                .firstName("Adam")
+                .lastName("Nowak")
+                .title("PhD")
+                .email("adam.nowak@example.com")
+                .build());
+        Lecturer secondLecturer = lecturerRepository.save(Lecturer.builder()
+                .firstName("Ewa")
+                .lastName("Nowak")
+                .title("professor")
+                .email("ewa.nowak@example.com")
+                .build());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/reactive/lecturers").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        // then
+        List<LecturerDto> lecturerDtos = new ArrayList<>();
+        for (String line : mvcResult.getResponse().getContentAsString().split("\n")) {
+            lecturerDtos.add(objectMapper.readValue(line, LecturerDto.class));
+        }
+        assertEquals(List.of(firstLecturer.toDto(), secondLecturer.toDto()), lecturerDtos);
+    }
+
     @Test
     void createLecturer_validInput_createsLecturerAndReturnsStatus201() throws Exception {
         // given
@@ -117,6 +154,73 @@ class LecturerIntegrationTest {
         assertFalse(exceptionResponse.getMethod().isBlank());
     }
 
+    @Test
+    void createLecturers_validInput_createsAllLecturersAndReturnsStatus201() throws Exception {
+        // given
+        BulkCreateLecturersRequest bulkCreateLecturersRequest = new BulkCreateLecturersRequest(List.of(
+                CreateLecturerRequest.builder()
+                        .firstName("John")
+                        .lastName("Doe")
+                        .title("Dr")
+                        .email("example1@mail.com")
+                        .build(),
+                CreateLecturerRequest.builder()
+                        .firstName("Jane")
+                        .lastName("Doe")
+                        .title("professor")
+                        .email("example2@mail.com")
+                        .build()));
+
+        // when
+        String responseContent = mockMvc.perform(post(BASE_URL + "/bulk")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkCreateLecturersRequest)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        List<LecturerDto> createdLecturers = objectMapper.readValue(responseContent, new TypeReference<>() {
+        });
+        assertEquals(2, createdLecturers.size());
+        assertThat(createdLecturers).allMatch(lecturerDto -> lecturerDto.getId() != null);
+        assertThat(createdLecturers).extracting(LecturerDto::getEmail)
+                .containsExactly("example1@mail.com", "example2@mail.com");
+        assertEquals(2, lecturerRepository.count());
+    }
+
+    @Test
+    void createLecturers_oneInvalidLecturer_createsNothingAndReturnsStatus400() throws Exception {
+        // given
+        BulkCreateLecturersRequest bulkCreateLecturersRequest = new BulkCreateLecturersRequest(List.of(
+                CreateLecturerRequest.builder()
+                        .firstName("John")
+                        .lastName("Doe")
+                        .title("Dr")
+                        .email("example1@mail.com")
+                        .build(),
+                CreateLecturerRequest.builder()
+                        .firstName("Jane")
+                        .title("professor")
+                        .email("example2@mail.com")
+                        .build()));
+
+        // when
+        String response = mockMvc.perform(post(BASE_URL + "/bulk")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkCreateLecturersRequest)))
+                .andExpect(status().isBadRequest())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        ExceptionResponse exceptionResponse = objectMapper.readValue(response, ExceptionResponse.class);
+        assertTrue(lecturerRepository.findAll().isEmpty());
+        assertTrue(exceptionResponse.getMessage().contains("lecturers[1].lastName"));
+    }
+
     @Test
     void updateLecturer_validInput_updatesLecturerAndReturnsStatus204() throws Exception {
         // given
@@ -134,6 +238,7 @@ class LecturerIntegrationTest {
                 .lastName("Doe")
                 .title("Dr")
                 .email("example@mail.com")
+                .version(lecturerToBeUpdated.getVersion())
                 .build();
 
         // when
@@ -210,6 +315,7 @@ class LecturerIntegrationTest {
                 .lastName("Doe")
                 .title("Dr")
                 .email("example@mail.com")
+                .version(0L)
                 .build();
 
         Lecturer lecturer = Lecturer.builder()
@@ -7,6 +7,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.List;
@@ -27,6 +28,9 @@ class LecturerServiceTest {
     @Mock
     private LecturerRepository lecturerRepo;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LecturerService lecturerService;
 
@@ -159,6 +163,7 @@ class LecturerServiceTest {
                 .lastName("Johnson")
                 .title("professor")
                 .email("example@email.com")
+                .version(3L)
                 .build();
         when(lecturerRepo.existsById(updatedLecturer.getId())).thenReturn(true);
         when(lecturerRepo.save(any(Lecturer.class))).thenReturn(updatedLecturer);
@@ -179,6 +184,7 @@ class LecturerServiceTest {
                 .lastName("Johnson")
                 .title("professor")
                 .email("example@email.com")
+                .version(3L)
                 .build();
         when(lecturerRepo.existsById(updatedLecturer.getId())).thenReturn(false);
 
@@ -205,6 +211,23 @@ class LecturerServiceTest {
         verify(lecturerRepo, times(0)).save(any());
     }
 
+    @Test
+    void update_givenLecturerWithoutVersion_throwsExceptionWithoutReadingCurrentVersion() {
+        //given
+        Lecturer updatedLecturer = Lecturer.builder()
+                .id(1L)
+                .firstName("Jack")
+                .lastName("Johnson")
+                .title("professor")
+                .email("example@email.com")
+                .build();
+
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> lecturerService.update(updatedLecturer));
+        verify(lecturerRepo, times(0)).existsById(any());
+        verify(lecturerRepo, times(0)).save(any());
+    }
+
     @Test
     void update_lecturerNull_throwsException() {
         //given //when //then
@@ -0,0 +1,548 @@
+package com.example.universitymanager.domain.performance;
+
+import com.example.universitymanager.domain.course.CourseDto;
+import com.example.universitymanager.domain.course.CourseRepository;
+import com.example.universitymanager.domain.course.CourseService;
+import com.example.universitymanager.domain.course.controller.request.CreateCourseRequest;
+import com.example.universitymanager.domain.course.controller.request.UpdateCourseRequest;
+import com.example.universitymanager.domain.course.controller.request.UpdateCourseStudentsRequest;
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerRepository;
+import com.example.universitymanager.domain.lecturer.LecturerService;
+import com.example.universitymanager.domain.lecturer.controller.request.CreateLecturerRequest;
+import com.example.universitymanager.domain.lecturer.controller.request.UpdateLecturerRequest;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentRepository;
+import com.example.universitymanager.domain.student.StudentService;
+import com.example.universitymanager.domain.student.controller.request.CreateStudentRequest;
+import com.example.universitymanager.domain.student.controller.request.UpdateStudentRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.persistence.EntityManagerFactory;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the number of SQL statements and loaded entities each endpoint issues. Read endpoints are measured on a
+ * small and a large dataset and must issue the same number of statements and load the same entities on both, so
+ * any per-row query or roster load fails the build. Fixtures are created through the services, so the in-memory
+ * views fed by change events (search index, statistics snapshot) hold the same data as the database.
+ * Latency and allocation budgets are deliberately coarse; they catch order-of-magnitude regressions only.
+ */
+@Tag("performance")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetIntegrationTest {
+
+    private static final int SMALL_DATASET = 20;
+    private static final int LARGE_DATASET = 300;
+    private static final int ROSTER_SIZE = 15;
+    private static final long LATENCY_BUDGET_MILLIS = 2000;
+    private static final long ALLOCATION_BUDGET_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private LecturerService lecturerService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Student> students = new ArrayList<>();
+    private final List<Lecturer> lecturers = new ArrayList<>();
+    private final List<CourseDto> courses = new ArrayList<>();
+
+    @BeforeEach
+    public void prepare() {
+        clearDatabase();
+        statistics().setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void clearDatabase() {
+        courseRepository.deleteAll();
+        studentRepository.deleteAll();
+        lecturerRepository.deleteAll();
+        students.clear();
+        lecturers.clear();
+        courses.clear();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "/api/v1/students, 1",
+            "/api/v1/students/{studentId}, 1",
+            "/api/v1/students/search?lastName=Ko, 1",
+            "/api/v1/students/export?format=csv, 1",
+            "/api/v1/lecturers, 1",
+            "/api/v1/lecturers/{lecturerId}, 1",
+            "/api/v1/lecturers/search?lastName=No, 1",
+            "/api/v1/lecturers/export?format=ndjson, 1",
+            "/api/v1/courses, 2",
+            "/api/v1/courses/{courseId}, 2",
+            "/api/v1/statistics/courses, 1",
+            "/api/v1/statistics/lecturers, 1",
+            "/api/v1/statistics/cohorts, 1",
+            "/api/v1/statistics/enrollment-distribution, 1",
+            "/api/v1/statistics/snapshot, 0",
+            "/api/v1/search?q=Kowalski, 0"
+    })
+    void readEndpoint_growingDataset_issuesConstantNumberOfStatements(String path, int maxStatements) throws Exception {
+        // given
+        growDataset(SMALL_DATASET);
+        Measurement smallDataset = measure(get(resolve(path)));
+        growDataset(LARGE_DATASET);
+
+        // when
+        Measurement largeDataset = measure(get(resolve(path)));
+
+        // then
+        assertThat(smallDataset.statements).isLessThanOrEqualTo(maxStatements);
+        assertThat(largeDataset.statements).isEqualTo(smallDataset.statements);
+        assertThat(largeDataset.entityLoads).isEqualTo(smallDataset.entityLoads);
+        assertThat(largeDataset.collectionLoads).isZero();
+        largeDataset.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void createStudent_singleStudent_staysWithinStatementBudget() throws Exception {
+        // given
+        growDataset(SMALL_DATASET);
+        CreateStudentRequest createStudentRequest = CreateStudentRequest.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .indexCode("123456")
+                .studiesStartYear(2023)
+                .build();
+
+        // when
+        Measurement measurement = measure(post("/api/v1/students")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createStudentRequest)));
+
+        // then
+        assertThat(measurement.statements).isLessThanOrEqualTo(2);
+        measurement.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void createStudents_bulkRequest_batchesInserts() throws Exception {
+        // given
+        int count = 200;
+        List<CreateStudentRequest> createStudentRequests = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            createStudentRequests.add(CreateStudentRequest.builder()
+                    .firstName("John")
+                    .lastName("Doe" + index)
+                    .indexCode(String.valueOf(200000 + index))
+                    .studiesStartYear(2023)
+                    .build());
+        }
+
+        // when
+        Measurement measurement = measure(post("/api/v1/students/bulk")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createStudentRequests)));
+
+        // then
+        assertThat(measurement.statements).isLessThanOrEqualTo(2 * (count / 50) + 2);
+        measurement.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void updateStudent_existingStudent_staysWithinStatementBudget() throws Exception {
+        // given
+        growDataset(SMALL_DATASET);
+        Student student = students.get(0);
+        UpdateStudentRequest updateStudentRequest = UpdateStudentRequest.builder()
+                .id(student.getId())
+                .firstName("Jack")
+                .lastName(student.getLastName())
+                .indexCode(student.getIndexCode())
+                .studiesStartYear(student.getStudiesStartYear())
+                .version(student.getVersion())
+                .build();
+
+        // when
+        Measurement measurement = measure(put("/api/v1/students")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateStudentRequest)));
+
+        // then
+        assertThat(measurement.statements).isLessThanOrEqualTo(3);
+        measurement.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void deleteStudent_studentNotEnrolled_staysWithinStatementBudget() throws Exception {
+        // given
+        growDataset(SMALL_DATASET);
+        Student student = students.get(students.size() - 1);
+
+        // when
+        Measurement measurement = measure(delete("/api/v1/students/" + student.getId()));
+
+        // then
+        assertThat(measurement.statements).isLessThanOrEqualTo(3);
+        measurement.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void createCourse_withRoster_resolvesStudentsWithSingleQuery() throws Exception {
+        // given
+        growDataset(SMALL_DATASET);
+        CreateCourseRequest createCourseRequest = CreateCourseRequest.builder()
+                .courseName("Statistics")
+                .leadingLecturerId(lecturers.get(lecturers.size() - 1).getId())
+                .studentsIds(students.stream()
+                        .limit(ROSTER_SIZE)
+                        .map(Student::getId)
+                        .collect(Collectors.toSet()))
+                .build();
+
+        // when
+        Measurement measurement = measure(post("/api/v1/courses")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createCourseRequest)));
+
+        // then
+        assertThat(measurement.statements).isLessThanOrEqualTo(4);
+        measurement.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void enrollStudent_growingRoster_issuesConstantNumberOfStatements() throws Exception {
+        // given
+        growDataset(LARGE_DATASET);
+        CourseDto smallCourse = saveCourse("Small course", Set.of());
+        CourseDto largeCourse = saveCourse("Large course", students.stream()
+                .skip(1)
+                .limit(200)
+                .map(Student::getId)
+                .collect(Collectors.toSet()));
+        Long studentId = students.get(0).getId();
+
+        // when
+        Measurement smallRoster = measure(post("/api/v1/courses/" + smallCourse.getId() + "/students/" + studentId));
+        Measurement largeRoster = measure(post("/api/v1/courses/" + largeCourse.getId() + "/students/" + studentId));
+        Measurement unenroll = measure(delete("/api/v1/courses/" + largeCourse.getId() + "/students/" + studentId));
+
+        // then
+        assertThat(smallRoster.statements).isLessThanOrEqualTo(5);
+        assertThat(largeRoster.statements).isEqualTo(smallRoster.statements);
+        assertThat(largeRoster.entityLoads).isEqualTo(smallRoster.entityLoads);
+        assertThat(largeRoster.collectionLoads).isZero();
+        assertThat(unenroll.statements).isLessThanOrEqualTo(5);
+        assertThat(unenroll.collectionLoads).isZero();
+        largeRoster.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void deleteCourse_withRoster_staysWithinStatementBudget() throws Exception {
+        // given
+        growDataset(SMALL_DATASET);
+        CourseDto course = courses.get(0);
+
+        // when
+        Measurement measurement = measure(delete("/api/v1/courses/" + course.getId()));
+
+        // then
+        assertThat(measurement.statements).isLessThanOrEqualTo(4);
+        measurement.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void updateCourse_growingRoster_issuesConstantNumberOfStatements() throws Exception {
+        // given
+        growDataset(LARGE_DATASET);
+        Set<Long> smallRosterIds = Set.of(students.get(1).getId(), students.get(2).getId());
+        Set<Long> largeRosterIds = students.stream()
+                .skip(1)
+                .limit(200)
+                .map(Student::getId)
+                .collect(Collectors.toSet());
+        CourseDto smallCourse = saveCourse("Small course", smallRosterIds);
+        CourseDto largeCourse = saveCourse("Large course", largeRosterIds);
+
+        // when
+        Measurement smallRoster = measure(updateCourse(smallCourse, smallRosterIds));
+        Measurement largeRoster = measure(updateCourse(largeCourse, largeRosterIds));
+
+        // then
+        assertThat(smallRoster.statements).isLessThanOrEqualTo(7);
+        assertThat(largeRoster.statements).isEqualTo(smallRoster.statements);
+        largeRoster.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void updateEnrollments_growingRoster_doesNotLoadRoster() throws Exception {
+        // given
+        growDataset(LARGE_DATASET);
+        CourseDto smallCourse = saveCourse("Small course", Set.of(students.get(1).getId(), students.get(2).getId()));
+        CourseDto largeCourse = saveCourse("Large course", students.stream()
+                .skip(1)
+                .limit(200)
+                .map(Student::getId)
+                .collect(Collectors.toSet()));
+        UpdateCourseStudentsRequest updateCourseStudentsRequest = UpdateCourseStudentsRequest.builder()
+                .addedStudentsIds(Set.of(students.get(0).getId()))
+                .removedStudentsIds(Set.of(students.get(1).getId()))
+                .build();
+
+        // when
+        Measurement smallRoster = measure(patch("/api/v1/courses/" + smallCourse.getId() + "/students")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateCourseStudentsRequest)));
+        Measurement largeRoster = measure(patch("/api/v1/courses/" + largeCourse.getId() + "/students")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateCourseStudentsRequest)));
+
+        // then
+        assertThat(smallRoster.statements).isLessThanOrEqualTo(7);
+        assertThat(largeRoster.statements).isEqualTo(smallRoster.statements);
+        assertThat(largeRoster.entityLoads).isLessThanOrEqualTo(1);
+        assertThat(largeRoster.collectionLoads).isZero();
+        largeRoster.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void createLecturer_singleLecturer_staysWithinStatementBudget() throws Exception {
+        // given
+        growDataset(SMALL_DATASET);
+
+        // when
+        Measurement measurement = measure(post("/api/v1/lecturers")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createLecturerRequest(0))));
+
+        // then
+        assertThat(measurement.statements).isLessThanOrEqualTo(2);
+        measurement.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void createLecturers_bulkRequest_batchesInserts() throws Exception {
+        // given
+        int count = 200;
+        List<CreateLecturerRequest> createLecturerRequests = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            createLecturerRequests.add(createLecturerRequest(index));
+        }
+
+        // when
+        Measurement measurement = measure(post("/api/v1/lecturers/bulk")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createLecturerRequests)));
+
+        // then
+        assertThat(measurement.statements).isLessThanOrEqualTo(2 * (count / 50) + 2);
+        measurement.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void updateLecturer_existingLecturer_staysWithinStatementBudget() throws Exception {
+        // given
+        growDataset(SMALL_DATASET);
+        Lecturer lecturer = lecturers.get(0);
+        UpdateLecturerRequest updateLecturerRequest = UpdateLecturerRequest.builder()
+                .id(lecturer.getId())
+                .firstName("Adrian")
+                .lastName(lecturer.getLastName())
+                .title(lecturer.getTitle())
+                .email(lecturer.getEmail())
+                .version(lecturer.getVersion())
+                .build();
+
+        // when
+        Measurement measurement = measure(put("/api/v1/lecturers")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateLecturerRequest)));
+
+        // then
+        assertThat(measurement.statements).isLessThanOrEqualTo(3);
+        assertThat(measurement.collectionLoads).isZero();
+        measurement.assertWithinCoarseBudgets();
+    }
+
+    @Test
+    void deleteLecturer_lecturerWithoutCourse_staysWithinStatementBudget() throws Exception {
+        // given
+        growDataset(SMALL_DATASET);
+        Lecturer lecturer = lecturers.get(lecturers.size() - 1);
+
+        // when
+        Measurement measurement = measure(delete("/api/v1/lecturers/" + lecturer.getId()));
+
+        // then
+        assertThat(measurement.statements).isLessThanOrEqualTo(4);
+        measurement.assertWithinCoarseBudgets();
+    }
+
+    private void growDataset(int studentCount) {
+        List<Student> newStudents = new ArrayList<>();
+        for (int index = students.size(); index < studentCount; index++) {
+            newStudents.add(Student.builder()
+                    .firstName("John" + index)
+                    .lastName("Kowalski" + index)
+                    .indexCode(String.valueOf(100000 + index))
+                    .studiesStartYear(2015 + index % 8)
+                    .build());
+        }
+        if (!newStudents.isEmpty()) {
+            students.addAll(studentService.createAll(newStudents));
+        }
+        // leading lecturer is a one-to-one association, so every course needs a lecturer of its own
+        List<Lecturer> newLecturers = new ArrayList<>();
+        for (int index = lecturers.size(); index < studentCount / 5 + 2; index++) {
+            newLecturers.add(Lecturer.builder()
+                    .firstName("Adam" + index)
+                    .lastName("Nowak" + index)
+                    .title("PhD")
+                    .email("adam.nowak" + index + "@example.com")
+                    .build());
+        }
+        if (!newLecturers.isEmpty()) {
+            lecturers.addAll(lecturerService.createAll(newLecturers));
+        }
+        for (int index = courses.size(); index < studentCount / 5; index++) {
+            Set<Long> rosterIds = new HashSet<>();
+            for (int offset = 0; offset < ROSTER_SIZE; offset++) {
+                rosterIds.add(students.get((index + offset) % (studentCount / 2)).getId());
+            }
+            saveCourse("Course " + index, rosterIds);
+        }
+    }
+
+    private CourseDto saveCourse(String courseName, Set<Long> rosterIds) {
+        CourseDto savedCourse = courseService.create(CreateCourseRequest.builder()
+                .courseName(courseName)
+                .leadingLecturerId(lecturers.get(courses.size()).getId())
+                .studentsIds(rosterIds)
+                .build());
+        courses.add(savedCourse);
+        return savedCourse;
+    }
+
+    private RequestBuilder updateCourse(CourseDto course, Set<Long> rosterIds) throws Exception {
+        UpdateCourseRequest updateCourseRequest = UpdateCourseRequest.builder()
+                .id(course.getId())
+                .courseName(course.getCourseName() + " (renamed)")
+                .leadingLecturerId(course.getLeadingLecturerDto().getId())
+                .studentsIds(rosterIds)
+                .version(course.getVersion())
+                .build();
+        return put("/api/v1/courses")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateCourseRequest));
+    }
+
+    private CreateLecturerRequest createLecturerRequest(int index) {
+        return CreateLecturerRequest.builder()
+                .firstName("Anna" + index)
+                .lastName("Lewandowska" + index)
+                .title("PhD")
+                .email("anna.lewandowska" + index + "@example.com")
+                .build();
+    }
+
+    private String resolve(String path) {
+        return path
+                .replace("{studentId}", String.valueOf(students.get(0).getId()))
+                .replace("{lecturerId}", String.valueOf(lecturers.get(0).getId()))
+                .replace("{courseId}", String.valueOf(courses.get(0).getId()));
+    }
+
+    private Measurement measure(RequestBuilder request) throws Exception {
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        statistics().clear();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+
+        long latencyNanos = System.nanoTime() - start;
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(statistics().getPrepareStatementCount(), statistics().getEntityLoadCount(),
+                statistics().getCollectionLoadCount(), latencyNanos, allocatedBytes);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static final class Measurement {
+
+        private final long statements;
+        private final long entityLoads;
+        private final long collectionLoads;
+        private final long latencyNanos;
+        private final long allocatedBytes;
+
+        private Measurement(long statements, long entityLoads, long collectionLoads, long latencyNanos, long allocatedBytes) {
+            this.statements = statements;
+            this.entityLoads = entityLoads;
+            this.collectionLoads = collectionLoads;
+            this.latencyNanos = latencyNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        private void assertWithinCoarseBudgets() {
+            assertThat(TimeUnit.NANOSECONDS.toMillis(latencyNanos)).isLessThanOrEqualTo(LATENCY_BUDGET_MILLIS);
+            assertThat(allocatedBytes).isLessThanOrEqualTo(ALLOCATION_BUDGET_BYTES);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.universitymanager.domain.search;
+
+import com.example.universitymanager.domain.lecturer.LecturerService;
+import com.example.universitymanager.domain.student.StudentChangedEvent;
+import com.example.universitymanager.domain.student.StudentDto;
+import com.example.universitymanager.domain.student.StudentService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class NameSearchServiceTest {
+
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private LecturerService lecturerService;
+
+    @Spy
+    private SearchProperties searchProperties = new SearchProperties();
+
+    @InjectMocks
+    private NameSearchService nameSearchService;
+
+    @Test
+    void buildIndex_studentDeletedDuringExport_isNotIndexed() {
+        //given
+        StudentDto student = new StudentDto(1L, "John", "Kowalski", "25469", 2022, 0L);
+        doAnswer(invocation -> {
+            nameSearchService.onStudentChanged(StudentChangedEvent.deleted(student.getId()));
+            invocation.<Consumer<StudentDto>>getArgument(0).accept(student);
+            return null;
+        }).when(studentService).exportAll(any());
+
+        //when
+        nameSearchService.buildIndex();
+
+        //then
+        assertTrue(nameSearchService.search("Kowalski", null).isEmpty());
+    }
+
+    @Test
+    void onStudentChanged_afterBuild_isAppliedImmediately() {
+        //given
+        nameSearchService.buildIndex();
+
+        //when
+        nameSearchService.onStudentChanged(StudentChangedEvent.created(new StudentDto(1L, "John", "Kowalski", "25469", 2022, 0L)));
+
+        //then
+        assertEquals(1, nameSearchService.search("Kowalski", null).size());
+    }
+}
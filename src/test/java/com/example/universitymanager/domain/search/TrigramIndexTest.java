@@ -0,0 +1,61 @@
+package com.example.universitymanager.domain.search;
+
+import com.example.universitymanager.domain.lecturer.LecturerDto;
+import com.example.universitymanager.domain.student.StudentDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    void search_misspelledLastName_ranksClosestPersonFirst() {
+        //given
+        index.put(SearchDocument.of(new StudentDto(1L, "John", "Kowalski", "25469", 2022, 0L)));
+        index.put(SearchDocument.of(new StudentDto(2L, "Jane", "Kowalczyk", "98765", 2021, 0L)));
+        index.put(SearchDocument.of(new LecturerDto(1L, "Adam", "Nowak", "PhD", "adam.nowak@example.com", 0L)));
+
+        //when
+        List<SearchHitDto> hits = index.search("Kowalsky", 10, 0.2);
+
+        //then
+        assertEquals(PersonType.STUDENT, hits.get(0).getType());
+        assertEquals(1L, hits.get(0).getId());
+        assertTrue(hits.stream().noneMatch(hit -> hit.getType() == PersonType.LECTURER));
+    }
+
+    @Test
+    void search_removedPerson_isNotReturned() {
+        //given
+        index.put(SearchDocument.of(new StudentDto(1L, "John", "Kowalski", "25469", 2022, 0L)));
+        index.remove(PersonType.STUDENT, 1L);
+
+        //when
+        List<SearchHitDto> hits = index.search("Kowalski", 10, 0.2);
+
+        //then
+        assertTrue(hits.isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void put_existingPerson_replacesIndexedNames() {
+        //given
+        index.put(SearchDocument.of(new StudentDto(1L, "John", "Kowalski", "25469", 2022, 0L)));
+        index.put(SearchDocument.of(new StudentDto(1L, "John", "Smith", "25469", 2022, 0L)));
+
+        //when
+        List<SearchHitDto> oldNameHits = index.search("Kowalski", 10, 0.2);
+        List<SearchHitDto> newNameHits = index.search("Smith", 10, 0.2);
+
+        //then
+        assertTrue(oldNameHits.isEmpty());
+        assertEquals(1, newNameHits.size());
+        assertEquals(1, index.size());
+    }
+}
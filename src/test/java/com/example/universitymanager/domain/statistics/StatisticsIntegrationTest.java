@@ -0,0 +1,136 @@
+package com.example.universitymanager.domain.statistics;
+
+import com.example.universitymanager.domain.course.Course;
+import com.example.universitymanager.domain.course.CourseRepository;
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerRepository;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatisticsIntegrationTest {
+
+    public static final String BASE_URL = "/api/v1/statistics";
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private Course course;
+
+    @BeforeEach
+    public void prepareDatabase() {
+        clearDatabase();
+        Student student1 = studentRepository.save(Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build());
+        Student student2 = studentRepository.save(Student.builder()
+                .firstName("Jane")
+                .lastName("Adams")
+                .indexCode("98765")
+                .studiesStartYear(2022)
+                .build());
+        studentRepository.save(Student.builder()
+                .firstName("Bob")
+                .lastName("Smith")
+                .indexCode("45678")
+                .studiesStartYear(2020)
+                .build());
+        Lecturer lecturer = lecturerRepository.save(Lecturer.builder()
+                .firstName("Adam")
+                .lastName("Nowak")
+                .title("PhD")
+                .email("adam.nowak@example.com")
+                .build());
+        Course courseForCreate = Course.builder()
+                .courseName("Algebra")
+                .leadingLecturer(lecturer)
+                .build();
+        courseForCreate.addStudent(student1);
+        courseForCreate.addStudent(student2);
+        course = courseRepository.save(courseForCreate);
+    }
+
+    @AfterEach
+    public void clearDatabase() {
+        courseRepository.deleteAll();
+        studentRepository.deleteAll();
+        lecturerRepository.deleteAll();
+    }
+
+    @Test
+    void getStudentsPerCourse_courseWithStudents_returnsRosterSize() throws Exception {
+        // given // when
+        String responseContent = mockMvc.perform(get(BASE_URL + "/courses"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        List<CourseEnrollmentCountDto> studentsPerCourse = objectMapper.readValue(responseContent, new TypeReference<>() {
+        });
+        assertThat(studentsPerCourse).containsExactly(new CourseEnrollmentCountDto(course.getId(), "Algebra", 2L));
+    }
+
+    @Test
+    void getStudentsPerCohort_studentsFromTwoYears_returnsCohortSizes() throws Exception {
+        // given // when
+        String responseContent = mockMvc.perform(get(BASE_URL + "/cohorts"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        List<CohortSizeDto> cohorts = objectMapper.readValue(responseContent, new TypeReference<>() {
+        });
+        assertThat(cohorts).containsExactly(new CohortSizeDto(2020, 1L), new CohortSizeDto(2022, 2L));
+    }
+
+    @Test
+    void getEnrollmentDistribution_oneStudentNotEnrolled_returnsStudentsPerEnrolledCourses() throws Exception {
+        // given // when
+        String responseContent = mockMvc.perform(get(BASE_URL + "/enrollment-distribution"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        List<EnrollmentDistributionDto> distribution = objectMapper.readValue(responseContent, new TypeReference<>() {
+        });
+        assertThat(distribution).containsExactly(new EnrollmentDistributionDto(0, 1L), new EnrollmentDistributionDto(1, 2L));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.universitymanager.domain.statistics;
+
+import com.example.universitymanager.domain.student.StudentChangedEvent;
+import com.example.universitymanager.domain.student.StudentDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsSnapshotServiceTest {
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    @InjectMocks
+    private StatisticsSnapshotService statisticsSnapshotService;
+
+    @Test
+    void reconcile_studentCreatedDuringLoad_isKeptInNewSnapshot() {
+        //given
+        when(statisticsService.loadSnapshot()).thenAnswer(invocation -> {
+            StatisticsSnapshot loadedSnapshot = new StatisticsSnapshot(Instant.now());
+            loadedSnapshot.putStudent(1L, 2021);
+            statisticsSnapshotService.onStudentChanged(StudentChangedEvent.created(
+                    new StudentDto(2L, "Jane", "Doe", "654321", 2022, 0L)));
+            return loadedSnapshot;
+        });
+
+        //when
+        statisticsSnapshotService.reconcile();
+
+        //then
+        assertEquals(Map.of(2021, 1L, 2022, 1L), statisticsSnapshotService.getSnapshot().getStudentsPerCohort());
+    }
+
+    @Test
+    void reconcile_studentDeletedDuringLoad_isRemovedFromNewSnapshot() {
+        //given
+        when(statisticsService.loadSnapshot()).thenAnswer(invocation -> {
+            StatisticsSnapshot loadedSnapshot = new StatisticsSnapshot(Instant.now());
+            loadedSnapshot.putStudent(1L, 2021);
+            loadedSnapshot.putStudent(2L, 2022);
+            statisticsSnapshotService.onStudentChanged(StudentChangedEvent.deleted(2L));
+            return loadedSnapshot;
+        });
+
+        //when
+        statisticsSnapshotService.reconcile();
+
+        //then
+        assertEquals(Map.of(2021, 1L), statisticsSnapshotService.getSnapshot().getStudentsPerCohort());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.universitymanager.domain.statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StatisticsSnapshotTest {
+
+    private StatisticsSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new StatisticsSnapshot(Instant.EPOCH);
+        snapshot.putLecturer(1L);
+        snapshot.putLecturer(2L);
+        snapshot.putStudent(1L, 2021);
+        snapshot.putStudent(2L, 2022);
+        snapshot.putStudent(3L, 2022);
+    }
+
+    @Test
+    void putCourse_newCourse_countsRosterLecturerAndDistribution() {
+        //given //when
+        snapshot.putCourse(1L, 1L, Set.of(1L, 2L));
+
+        //then
+        StatisticsSnapshotDto statistics = snapshot.toDto();
+        assertEquals(Map.of(1L, 2), statistics.getStudentsPerCourse());
+        assertEquals(Map.of(1L, 1L, 2L, 0L), statistics.getCoursesPerLecturer());
+        assertEquals(Map.of(2021, 1L, 2022, 2L), statistics.getStudentsPerCohort());
+        assertEquals(Map.of(0, 1L, 1, 2L), statistics.getEnrollmentDistribution());
+    }
+
+    @Test
+    void putCourse_existingCourse_appliesOnlyTheDifference() {
+        //given
+        snapshot.putCourse(1L, 1L, Set.of(1L, 2L));
+
+        //when
+        snapshot.putCourse(1L, 2L, Set.of(2L, 3L));
+
+        //then
+        StatisticsSnapshotDto statistics = snapshot.toDto();
+        assertEquals(Map.of(1L, 2), statistics.getStudentsPerCourse());
+        assertEquals(Map.of(1L, 0L, 2L, 1L), statistics.getCoursesPerLecturer());
+        assertEquals(Map.of(0, 1L, 1, 2L), statistics.getEnrollmentDistribution());
+    }
+
+    @Test
+    void removeCourse_existingCourse_releasesEnrollments() {
+        //given
+        snapshot.putCourse(1L, 1L, Set.of(1L, 2L));
+
+        //when
+        snapshot.removeCourse(1L);
+
+        //then
+        StatisticsSnapshotDto statistics = snapshot.toDto();
+        assertEquals(Map.of(), statistics.getStudentsPerCourse());
+        assertEquals(Map.of(1L, 0L, 2L, 0L), statistics.getCoursesPerLecturer());
+        assertEquals(Map.of(0, 3L), statistics.getEnrollmentDistribution());
+    }
+
+    @Test
+    void enroll_studentsEnrolledAndUnenrolled_movesStudentsBetweenDistributionBuckets() {
+        //given
+        snapshot.putCourse(1L, 1L, Set.of(1L));
+
+        //when
+        snapshot.enroll(1L, 2L);
+        snapshot.enroll(1L, 2L);
+        snapshot.unenroll(1L, 1L);
+
+        //then
+        StatisticsSnapshotDto statistics = snapshot.toDto();
+        assertEquals(Map.of(1L, 1), statistics.getStudentsPerCourse());
+        assertEquals(Map.of(0, 2L, 1, 1L), statistics.getEnrollmentDistribution());
+    }
+}
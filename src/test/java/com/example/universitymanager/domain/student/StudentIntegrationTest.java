@@ -2,10 +2,15 @@ package com.example.universitymanager.domain.student;
 
 
 import com.example.universitymanager.domain.common.ExceptionResponse;
+import com.example.universitymanager.domain.common.dbstats.DbStatsHeaders;
+import com.example.universitymanager.domain.common.pagination.CursorPage;
 import com.example.universitymanager.domain.student.controller.request.CreateStudentRequest;
 import com.example.universitymanager.domain.student.controller.request.UpdateStudentRequest;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -13,23 +18,31 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import javax.persistence.EntityNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -134,6 +147,7 @@ class StudentIntegrationTest {
                 .lastName("Doe")
                 .indexCode("123456")
                 .studiesStartYear(2023)
+                .version(studentToBeUpdated.getVersion())
                 .build();
 
         // when
@@ -210,6 +224,7 @@ class StudentIntegrationTest {
                 .lastName("Doe")
                 .indexCode("123456")
                 .studiesStartYear(2023)
+                .version(0L)
                 .build();
 
         Student student = Student.builder()
@@ -279,6 +294,121 @@ class StudentIntegrationTest {
         assertThat(expectedStudentDto).isEqualTo(foundedStudentByIdDto);
     }
 
+    @Test
+    void getStudentById_matchingETag_returnsStatus304UntilStudentChanges() throws Exception {
+        // given
+        Student student = Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build();
+        studentRepository.save(student);
+        String eTag = mockMvc.perform(get(BASE_URL + "/" + student.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        mockMvc.perform(get(BASE_URL + "/" + student.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        UpdateStudentRequest updateStudentRequest = UpdateStudentRequest.builder()
+                .id(student.getId())
+                .firstName("John")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build();
+        mockMvc.perform(put(BASE_URL)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateStudentRequest)))
+                .andExpect(status().isNoContent());
+
+        // then
+        String responseContent = mockMvc.perform(get(BASE_URL + "/" + student.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertNotNull(eTag);
+        assertThat(objectMapper.readValue(responseContent, StudentDto.class).getFirstName()).isEqualTo("John");
+    }
+
+    @Test
+    void updateStudent_noVersionInHeaderOrBody_returnsStatus428() throws Exception {
+        // given
+        Student student = Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build();
+        studentRepository.save(student);
+        UpdateStudentRequest updateStudentRequest = UpdateStudentRequest.builder()
+                .id(student.getId())
+                .firstName("John")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build();
+
+        // when
+        mockMvc.perform(put(BASE_URL)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateStudentRequest)))
+                .andExpect(status().isPreconditionRequired());
+
+        // then
+        assertThat(studentRepository.findById(student.getId()).orElseThrow().getFirstName()).isEqualTo("Johny");
+    }
+
+    @Test
+    void updateStudent_staleIfMatch_returnsStatus409AndKeepsConcurrentChange() throws Exception {
+        // given
+        Student student = Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build();
+        studentRepository.save(student);
+        String eTag = mockMvc.perform(get(BASE_URL + "/" + student.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        UpdateStudentRequest firstUpdate = UpdateStudentRequest.builder()
+                .id(student.getId())
+                .firstName("John")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build();
+        UpdateStudentRequest secondUpdate = UpdateStudentRequest.builder()
+                .id(student.getId())
+                .firstName("Jack")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build();
+        mockMvc.perform(put(BASE_URL)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(firstUpdate)))
+                .andExpect(status().isNoContent());
+
+        // when
+        mockMvc.perform(put(BASE_URL)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(secondUpdate)))
+                .andExpect(status().isConflict());
+
+        // then
+        assertThat(studentRepository.findById(student.getId()).orElseThrow().getFirstName()).isEqualTo("John");
+    }
+
     @Test
     void getStudentById_studentWithGivenIdNotExists_returnsStatus404() throws Exception {
         // given
@@ -347,6 +477,178 @@ class StudentIntegrationTest {
         assertThat(foundedStudentByIdDto).containsAll(expectedStudentsDto);
     }
 
+    @Test
+    void getAllStudents_moreStudentsThanPageSize_returnsPagesLinkedByCursor() throws Exception {
+        // given
+        Student student1 = Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build();
+        Student student2 = Student.builder()
+                .firstName("Jane")
+                .lastName("Adams")
+                .indexCode("98765")
+                .studiesStartYear(2021)
+                .build();
+        Student student3 = Student.builder()
+                .firstName("Bob")
+                .lastName("Smith")
+                .indexCode("45678")
+                .studiesStartYear(2020)
+                .build();
+        studentRepository.save(student1);
+        studentRepository.save(student2);
+        studentRepository.save(student3);
+
+        // when
+        MvcResult firstPage = mockMvc.perform(get(BASE_URL).param("size", "2").param("sort", "lastName"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String nextCursor = firstPage.getResponse().getHeader(CursorPage.NEXT_CURSOR_HEADER);
+        MvcResult secondPage = mockMvc.perform(get(BASE_URL).param("size", "2").param("sort", "lastName")
+                        .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        List<StudentDto> firstPageStudents = objectMapper.readValue(firstPage.getResponse().getContentAsString(),
+                new TypeReference<>() {
+                });
+        List<StudentDto> secondPageStudents = objectMapper.readValue(secondPage.getResponse().getContentAsString(),
+                new TypeReference<>() {
+                });
+        assertNotNull(nextCursor);
+        assertThat(firstPageStudents).containsExactly(student2.toDto(), student1.toDto());
+        assertThat(secondPageStudents).containsExactly(student3.toDto());
+        assertNull(secondPage.getResponse().getHeader(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void searchStudents_lastNamePrefixAndStartYear_returnsMatchingStudents() throws Exception {
+        // given
+        Student student1 = Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build();
+        Student student2 = Student.builder()
+                .firstName("Jane")
+                .lastName("Dorsey")
+                .indexCode("98765")
+                .studiesStartYear(2021)
+                .build();
+        Student student3 = Student.builder()
+                .firstName("Bob")
+                .lastName("Smith")
+                .indexCode("45678")
+                .studiesStartYear(2022)
+                .build();
+        studentRepository.save(student1);
+        studentRepository.save(student2);
+        studentRepository.save(student3);
+
+        // when
+        String responseContent = mockMvc.perform(get(BASE_URL + "/search")
+                        .param("lastName", "do")
+                        .param("studiesStartYear", "2022"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        List<StudentDto> foundStudents = objectMapper.readValue(responseContent, new TypeReference<>() {
+        });
+        assertThat(foundStudents).containsExactly(student1.toDto());
+    }
+
+    @Test
+    void getAllStudents_anyRequest_reportsDbStatisticsHeaders() throws Exception {
+        // given
+        studentRepository.save(Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        assertEquals("2", mvcResult.getResponse().getHeader(DbStatsHeaders.STATEMENTS));
+        assertEquals("0", mvcResult.getResponse().getHeader(DbStatsHeaders.ENTITIES_LOADED));
+        assertNotNull(mvcResult.getResponse().getHeader(DbStatsHeaders.SERVER_TIMING));
+    }
+
+    @Test
+    void getStudentById_jfrRecordingRunning_emitsServiceOperationEvent() throws Exception {
+        // given
+        Student student = studentRepository.save(Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25471")
+                .studiesStartYear(2022)
+                .build());
+        Path recordingFile = Files.createTempFile("service-operations", ".jfr");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable("universitymanager.ServiceOperation");
+            recording.start();
+            mockMvc.perform(get(BASE_URL + "/" + student.getId()))
+                    .andExpect(status().isOk());
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // then
+        List<RecordedEvent> recordedEvents = RecordingFile.readAllEvents(recordingFile);
+        Files.delete(recordingFile);
+        assertTrue(recordedEvents.stream().anyMatch(recordedEvent ->
+                "StudentService".equals(recordedEvent.getString("service"))
+                        && "getById".equals(recordedEvent.getString("operation"))
+                        && recordedEvent.getLong("entityId") == student.getId()
+                        && recordedEvent.getBoolean("succeeded")));
+    }
+
+    @Test
+    void streamAllStudents_reactiveEndpoint_streamsStudentsAsNdjsonOrderedById() throws Exception {
+        // given
+        Student firstStudent = studentRepository.save(Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25472")
+                .studiesStartYear(2022)
+                .build());
+        Student secondStudent = studentRepository.save(Student.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .indexCode("25473")
+                .studiesStartYear(2023)
+                .build());
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/reactive/students").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        // then
+        List<StudentDto> studentDtos = new ArrayList<>();
+        for (String line : mvcResult.getResponse().getContentAsString().split("\n")) {
+            studentDtos.add(objectMapper.readValue(line, StudentDto.class));
+        }
+        assertEquals(List.of(firstStudent.toDto(), secondStudent.toDto()), studentDtos);
+    }
+
     @Test
     void getAllStudents_noStudentsExistsInDb_returnsEmptyListAndStatus200() throws Exception {
         // given // when
@@ -362,6 +664,38 @@ class StudentIntegrationTest {
         assertThat(foundedStudentByIdDto).isEmpty();
     }
 
+    @Test
+    void exportStudents_csvFormat_streamsHeaderAndAllStudents() throws Exception {
+        // given
+        Student student1 = Student.builder()
+                .firstName("Johny")
+                .lastName("Doe")
+                .indexCode("25469")
+                .studiesStartYear(2022)
+                .build();
+        Student student2 = Student.builder()
+                .firstName("Jane")
+                .lastName("Doe, Jr.")
+                .indexCode("98765")
+                .studiesStartYear(2021)
+                .build();
+        studentRepository.save(student1);
+        studentRepository.save(student2);
+
+        // when
+        String responseContent = mockMvc.perform(get(BASE_URL + "/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        assertThat(responseContent.split("\n")).containsExactly(
+                "id,firstName,lastName,indexCode,studiesStartYear",
+                student1.getId() + ",Johny,Doe,25469,2022",
+                student2.getId() + ",Jane,\"Doe, Jr.\",98765,2021");
+    }
+
     @Test
     void deleteStudentById_existingStudentWithGivenId_deletesStudentAndStatus204() throws Exception {
         // given
@@ -1,21 +1,33 @@
 package com.example.universitymanager.domain.student;
 
+import com.example.universitymanager.domain.common.bulk.BulkProperties;
 import com.example.universitymanager.domain.common.exceptions.EntityNotFoundException;
+import com.example.universitymanager.domain.common.pagination.Cursor;
+import com.example.universitymanager.domain.common.pagination.CursorPage;
+import com.example.universitymanager.domain.common.pagination.PaginationProperties;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
+import javax.persistence.EntityManager;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -27,6 +39,18 @@ class StudentServiceTest {
     @Mock
     private StudentRepository studentRepo;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @Spy
+    private BulkProperties bulkProperties = new BulkProperties();
+
     @InjectMocks
     private StudentService studentService;
 
@@ -75,6 +99,39 @@ class StudentServiceTest {
         verify(studentRepo, times(0)).save(any(Student.class));
     }
 
+    @Test
+    void createAll_moreStudentsThanFlushSize_savesInChunks() {
+        //given
+        bulkProperties.setFlushSize(2);
+        List<Student> studentsForCreate = List.of(
+                Student.builder().firstName("John").lastName("Smith").indexCode("1").studiesStartYear(2021).build(),
+                Student.builder().firstName("Jack").lastName("Brown").indexCode("2").studiesStartYear(2022).build(),
+                Student.builder().firstName("Jane").lastName("Doe").indexCode("3").studiesStartYear(2023).build());
+        when(studentRepo.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        List<Student> createdStudents = studentService.createAll(studentsForCreate);
+
+        //then
+        verify(studentRepo, times(1)).saveAll(studentsForCreate.subList(0, 2));
+        verify(studentRepo, times(1)).saveAll(studentsForCreate.subList(2, 3));
+        verify(studentRepo, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        assertEquals(studentsForCreate, createdStudents);
+    }
+
+    @Test
+    void createAll_studentWithId_throwsExceptionBeforeSaving() {
+        //given
+        List<Student> studentsForCreate = List.of(
+                Student.builder().firstName("John").lastName("Smith").indexCode("1").studiesStartYear(2021).build(),
+                Student.builder().id(5L).firstName("Jack").lastName("Brown").indexCode("2").studiesStartYear(2022).build());
+
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> studentService.createAll(studentsForCreate));
+        verify(studentRepo, times(0)).saveAll(anyList());
+    }
+
     @Test
     void getById_existingStudentWithGivenId_returnsStudent() {
         //given
@@ -107,6 +164,38 @@ class StudentServiceTest {
         verify(studentRepo, times(1)).findById(notExistingStudentId);
     }
 
+    @Test
+    void getAllByIds_allStudentsExist_returnsStudentsWithSingleQuery() {
+        //given
+        Student student1 = Student.builder().id(1L).firstName("John").lastName("Smith").indexCode("1").studiesStartYear(2021).build();
+        Student student2 = Student.builder().id(2L).firstName("Jack").lastName("Brown").indexCode("2").studiesStartYear(2022).build();
+        Set<Long> ids = Set.of(1L, 2L);
+        when(studentRepo.findAllById(ids)).thenReturn(List.of(student1, student2));
+
+        //when
+        List<Student> fetchedStudents = studentService.getAllByIds(ids);
+
+        //then
+        verify(studentRepo, times(1)).findAllById(ids);
+        verify(studentRepo, times(0)).findById(any());
+        assertTrue(fetchedStudents.containsAll(List.of(student1, student2)));
+    }
+
+    @Test
+    void getAllByIds_someStudentsNotExist_throwsExceptionListingAllMissingIds() {
+        //given
+        Student student1 = Student.builder().id(1L).firstName("John").lastName("Smith").indexCode("1").studiesStartYear(2021).build();
+        List<Long> ids = List.of(1L, 7L, 3L);
+        when(studentRepo.findAllById(ids)).thenReturn(List.of(student1));
+
+        //when
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> studentService.getAllByIds(ids));
+
+        //then
+        assertEquals("Students with ids [3, 7] not found", exception.getMessage());
+    }
+
     @Test
     void getAll_studentsExistsInDb_returnsAllStudentsList() {
         //given
@@ -150,6 +239,52 @@ class StudentServiceTest {
         assertTrue(fetchedStudents.isEmpty());
     }
 
+    @Test
+    void getPage_moreStudentsThanPageSize_returnsPageWithNextCursor() {
+        //given
+        StudentDto student1 = StudentDto.builder().id(1L).firstName("John").lastName("Smith").indexCode("1").studiesStartYear(2021).build();
+        StudentDto student2 = StudentDto.builder().id(2L).firstName("Jack").lastName("Brown").indexCode("2").studiesStartYear(2022).build();
+        StudentDto student3 = StudentDto.builder().id(3L).firstName("Jane").lastName("Doe").indexCode("3").studiesStartYear(2023).build();
+        when(studentRepo.findPageOrderedById(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(student1, student2, student3));
+
+        //when
+        CursorPage<StudentDto> page = studentService.getPage(null, 2, StudentSortField.ID);
+
+        //then
+        assertEquals(List.of(student1, student2), page.getItems());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @Test
+    void getPage_lastPage_returnsPageWithoutNextCursor() {
+        //given
+        StudentDto student = StudentDto.builder().id(3L).firstName("Jane").lastName("Doe").indexCode("3").studiesStartYear(2023).build();
+        String cursor = Cursor.of("lastName", 2L, "Brown").encode();
+        when(studentRepo.findPageOrderedByLastName(eq("Brown"), eq(2L), any(Pageable.class))).thenReturn(List.of(student));
+
+        //when
+        CursorPage<StudentDto> page = studentService.getPage(cursor, 1, StudentSortField.LAST_NAME);
+
+        //then
+        assertEquals(List.of(student), page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getPage_cursorIssuedForOtherSort_throwsException() {
+        //given
+        StudentDto student1 = StudentDto.builder().id(1L).firstName("John").lastName("Smith").indexCode("1").studiesStartYear(2021).build();
+        StudentDto student2 = StudentDto.builder().id(2L).firstName("Jack").lastName("Brown").indexCode("2").studiesStartYear(2022).build();
+        when(studentRepo.findPageOrderedById(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(student1, student2));
+        String idCursor = studentService.getPage(null, 1, StudentSortField.ID).getNextCursor();
+
+        //when //then
+        assertThrows(IllegalArgumentException.class,
+                () -> studentService.getPage(idCursor, 1, StudentSortField.STUDIES_START_YEAR));
+    }
+
     @Test
     void update_givenExistingUpdatedStudentWithId_updatesStudent() {
         //given
@@ -159,6 +294,7 @@ class StudentServiceTest {
                 .lastName("Johnson")
                 .indexCode("586987")
                 .studiesStartYear(2022)
+                .version(3L)
                 .build();
         when(studentRepo.existsById(updatedStudent.getId())).thenReturn(true);
         when(studentRepo.save(any(Student.class))).thenReturn(updatedStudent);
@@ -179,6 +315,7 @@ class StudentServiceTest {
                 .lastName("Johnson")
                 .indexCode("586987")
                 .studiesStartYear(2022)
+                .version(3L)
                 .build();
         when(studentRepo.existsById(updatedStudent.getId())).thenReturn(false);
 
@@ -205,6 +342,23 @@ class StudentServiceTest {
         verify(studentRepo, times(0)).save(any());
     }
 
+    @Test
+    void update_givenStudentWithoutVersion_throwsExceptionWithoutReadingCurrentVersion() {
+        //given
+        Student updatedStudent = Student.builder()
+                .id(1L)
+                .firstName("Jack")
+                .lastName("Johnson")
+                .indexCode("586987")
+                .studiesStartYear(2022)
+                .build();
+
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> studentService.update(updatedStudent));
+        verify(studentRepo, times(0)).existsById(any());
+        verify(studentRepo, times(0)).save(any());
+    }
+
     @Test
     void update_studentNull_throwsException() {
         //given //when //then
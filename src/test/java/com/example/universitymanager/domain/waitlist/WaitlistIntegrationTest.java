@@ -0,0 +1,221 @@
+package com.example.universitymanager.domain.waitlist;
+
+import com.example.universitymanager.domain.common.exceptions.CourseFullException;
+import com.example.universitymanager.domain.course.Course;
+import com.example.universitymanager.domain.course.CourseRepository;
+import com.example.universitymanager.domain.course.CourseService;
+import com.example.universitymanager.domain.lecturer.Lecturer;
+import com.example.universitymanager.domain.lecturer.LecturerRepository;
+import com.example.universitymanager.domain.student.Student;
+import com.example.universitymanager.domain.student.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.reset;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class WaitlistIntegrationTest {
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private WaitlistPromoter waitlistPromoter;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @SpyBean
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LecturerRepository lecturerRepository;
+
+    private Lecturer lecturer;
+    private Course course;
+    private final List<Student> students = new ArrayList<>();
+
+    @BeforeEach
+    public void prepareDatabase() {
+        clearDatabase();
+        for (int index = 0; index < 3; index++) {
+            students.add(studentRepository.save(Student.builder()
+                    .firstName("John" + index)
+                    .lastName("Doe")
+                    .indexCode(String.valueOf(400000 + index))
+                    .studiesStartYear(2023)
+                    .build()));
+        }
+        lecturer = lecturerRepository.save(Lecturer.builder()
+                .firstName("Adam")
+                .lastName("Nowak")
+                .title("PhD")
+                .email("adam.nowak@example.com")
+                .build());
+        course = courseRepository.save(Course.builder()
+                .courseName("Algebra")
+                .leadingLecturer(lecturer)
+                .capacity(1)
+                .build());
+    }
+
+    @AfterEach
+    public void clearDatabase() {
+        courseRepository.findAll().forEach(existingCourse -> waitlistService.getMirror().removeCourse(existingCourse.getId()));
+        courseRepository.deleteAll();
+        studentRepository.deleteAll();
+        lecturerRepository.deleteAll();
+        students.clear();
+    }
+
+    @Test
+    void promote_seatFreedInFullCourse_enrollsFirstWaitingStudent() {
+        //given
+        Long courseId = course.getId();
+        courseService.enrollStudent(courseId, students.get(0).getId());
+        waitlistService.join(courseId, students.get(1).getId());
+        waitlistService.join(courseId, students.get(2).getId());
+        courseService.unenrollStudent(courseId, students.get(0).getId());
+
+        //when
+        waitlistPromoter.promote();
+
+        //then
+        assertTrue(courseRepository.isEnrolled(courseId, students.get(1).getId()));
+        assertFalse(courseRepository.isEnrolled(courseId, students.get(2).getId()));
+        assertEquals(1, courseRepository.findEnrolledCountById(courseId));
+        List<WaitlistEntryDto> waitlist = waitlistService.getWaitlist(courseId);
+        assertEquals(1, waitlist.size());
+        assertEquals(students.get(2).getId(), waitlist.get(0).getStudentId());
+        assertEquals(1, waitlist.get(0).getPosition());
+    }
+
+    @Test
+    void promote_oneCourseLosesItsSeatInBatch_promotesOtherCourseAndRetriesLosingCourseOnNextRun() {
+        //given
+        Course otherCourse = courseRepository.save(Course.builder()
+                .courseName("Geometry")
+                .leadingLecturer(lecturer)
+                .capacity(1)
+                .build());
+        Long courseId = course.getId();
+        Long otherCourseId = otherCourse.getId();
+        courseService.enrollStudent(courseId, students.get(0).getId());
+        courseService.enrollStudent(otherCourseId, students.get(0).getId());
+        waitlistService.join(courseId, students.get(1).getId());
+        waitlistService.join(otherCourseId, students.get(2).getId());
+        courseService.unenrollStudent(courseId, students.get(0).getId());
+        courseService.unenrollStudent(otherCourseId, students.get(0).getId());
+        // a direct enrollment takes the free seat of the other course after the batch counted it
+        doReturn(0).when(courseRepository).reserveSeats(eq(otherCourseId), anyInt());
+
+        //when
+        waitlistPromoter.promote();
+
+        //then
+        assertTrue(courseRepository.isEnrolled(courseId, students.get(1).getId()));
+        assertTrue(waitlistService.getWaitlist(courseId).isEmpty());
+        assertFalse(courseRepository.isEnrolled(otherCourseId, students.get(2).getId()));
+        assertEquals(0, courseRepository.findEnrolledCountById(otherCourseId));
+        assertEquals(1, waitlistService.getWaitlist(otherCourseId).size());
+
+        //when
+        reset(courseRepository);
+        waitlistPromoter.promote();
+
+        //then
+        assertTrue(courseRepository.isEnrolled(otherCourseId, students.get(2).getId()));
+        assertTrue(waitlistService.getWaitlist(otherCourseId).isEmpty());
+    }
+
+    @Test
+    void promote_entryAlreadyDeleted_skipsItAndPromotesNextStudentOnFollowingRun() {
+        //given
+        Long courseId = course.getId();
+        courseService.enrollStudent(courseId, students.get(0).getId());
+        waitlistService.join(courseId, students.get(1).getId());
+        waitlistService.join(courseId, students.get(2).getId());
+        // the student left in a transaction whose event has not reached the mirror yet
+        waitlistRepository.deleteById(waitlistService.getMirror().head(courseId, 1).get(0).getId());
+        courseService.unenrollStudent(courseId, students.get(0).getId());
+
+        //when
+        waitlistPromoter.promote();
+        waitlistPromoter.promote();
+
+        //then
+        assertFalse(courseRepository.isEnrolled(courseId, students.get(1).getId()));
+        assertTrue(courseRepository.isEnrolled(courseId, students.get(2).getId()));
+        assertEquals(1, courseRepository.findEnrolledCountById(courseId));
+        assertTrue(waitlistService.getWaitlist(courseId).isEmpty());
+    }
+
+    @Test
+    void enrollStudent_studentsWaitingForFreedSeat_throwsCourseFullExceptionAndKeepsSeatForWaitlist() {
+        //given
+        Long courseId = course.getId();
+        courseService.enrollStudent(courseId, students.get(0).getId());
+        waitlistService.join(courseId, students.get(1).getId());
+        courseService.unenrollStudent(courseId, students.get(0).getId());
+
+        //when
+        assertThrows(CourseFullException.class, () -> courseService.enrollStudent(courseId, students.get(2).getId()));
+        assertThrows(CourseFullException.class,
+                () -> courseService.updateEnrollments(courseId, Set.of(students.get(2).getId()), Set.of()));
+        waitlistPromoter.promote();
+
+        //then
+        assertTrue(courseRepository.isEnrolled(courseId, students.get(1).getId()));
+        assertFalse(courseRepository.isEnrolled(courseId, students.get(2).getId()));
+        assertEquals(1, courseRepository.findEnrolledCountById(courseId));
+    }
+
+    @Test
+    void join_studentAlreadyWaiting_throwsIllegalArgumentException() {
+        //given
+        Long courseId = course.getId();
+        courseService.enrollStudent(courseId, students.get(0).getId());
+        waitlistService.join(courseId, students.get(1).getId());
+
+        //when //then
+        assertThrows(IllegalArgumentException.class, () -> waitlistService.join(courseId, students.get(1).getId()));
+        assertThrows(IllegalArgumentException.class, () -> waitlistService.join(courseId, students.get(0).getId()));
+    }
+
+    @Test
+    void leave_waitingStudent_removesStudentFromWaitlist() {
+        //given
+        Long courseId = course.getId();
+        courseService.enrollStudent(courseId, students.get(0).getId());
+        waitlistService.join(courseId, students.get(1).getId());
+
+        //when
+        waitlistService.leave(courseId, students.get(1).getId());
+
+        //then
+        assertTrue(waitlistService.getWaitlist(courseId).isEmpty());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.universitymanager.domain.waitlist;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WaitlistTest {
+
+    private final Waitlist waitlist = new Waitlist();
+
+    @Test
+    void head_severalStudentsJoined_returnsStudentsInJoinOrder() {
+        //given
+        waitlist.add(row(1L, 1L, 30L));
+        waitlist.add(row(2L, 1L, 10L));
+        waitlist.add(row(3L, 1L, 20L));
+        waitlist.add(row(4L, 2L, 40L));
+
+        //when
+        List<Long> head = waitlist.head(1L, 2).stream()
+                .map(WaitlistRow::getStudentId)
+                .collect(Collectors.toList());
+
+        //then
+        assertEquals(List.of(30L, 10L), head);
+        assertEquals(3, waitlist.depth(1L));
+        assertEquals(4, waitlist.depth());
+    }
+
+    @Test
+    void removeAll_promotedRows_keepsRemainingOrderAndDepth() {
+        //given
+        WaitlistRow first = row(1L, 1L, 30L);
+        waitlist.add(first);
+        waitlist.add(row(2L, 1L, 10L));
+        waitlist.add(row(3L, 1L, 20L));
+
+        //when
+        waitlist.removeAll(List.of(first));
+
+        //then
+        assertEquals(List.of(10L, 20L), waitlist.entries(1L).stream()
+                .map(WaitlistRow::getStudentId)
+                .collect(Collectors.toList()));
+        assertEquals(2, waitlist.depth());
+    }
+
+    @Test
+    void drainPending_markedCourses_returnsOnlyCoursesWithWaitingStudentsOnce() {
+        //given
+        waitlist.add(row(1L, 1L, 10L));
+        waitlist.add(row(2L, 2L, 10L));
+        waitlist.markPending(1L);
+        waitlist.markPending(2L);
+        waitlist.markPending(3L);
+
+        //when
+        List<Long> drained = waitlist.drainPending(10);
+
+        //then
+        assertEquals(2, drained.size());
+        assertTrue(drained.containsAll(List.of(1L, 2L)));
+        assertTrue(waitlist.drainPending(10).isEmpty());
+    }
+
+    @Test
+    void removeStudent_studentWaitingForSeveralCourses_removesStudentEverywhere() {
+        //given
+        waitlist.add(row(1L, 1L, 10L));
+        waitlist.add(row(2L, 2L, 10L));
+        waitlist.add(row(3L, 2L, 20L));
+
+        //when
+        waitlist.removeStudent(10L);
+
+        //then
+        assertEquals(0, waitlist.depth(1L));
+        assertEquals(1, waitlist.depth(2L));
+        assertEquals(1, waitlist.depth());
+    }
+
+    private static WaitlistRow row(Long id, Long courseId, Long studentId) {
+        return new WaitlistRow(id, courseId, studentId, Instant.now());
+    }
+}